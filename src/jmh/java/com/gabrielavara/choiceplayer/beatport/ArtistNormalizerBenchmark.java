@@ -0,0 +1,75 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ArtistNormalizerBenchmark {
+    @Param({"Above and Beyond feat. Richard Bedford", "Gabriel, Dresden And Betsie Larkin vs Tiesto"})
+    private String artist;
+
+    @Param({"Sun And Moon feat"})
+    private String title;
+
+    @Benchmark
+    public String normalize() {
+        return ArtistNormalizer.normalize(artist, true);
+    }
+
+    @Benchmark
+    public String normalizeSequentially() {
+        String result = artist;
+        for (RegexPattern regexPattern : RegexPattern.values()) {
+            for (Pattern pattern : regexPattern.getPatterns()) {
+                result = pattern.matcher(result).replaceAll(regexPattern == RegexPattern.COMMA ? " & " : regexPattern.getReplaceWith());
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String removeSeparators() {
+        return ArtistNormalizer.removeSeparators(artist);
+    }
+
+    @Benchmark
+    public String removeSeparatorsSequentially() {
+        String result = artist;
+        for (Pattern pattern : RegexPattern.getAll()) {
+            result = pattern.matcher(result).replaceAll(" ");
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String removeTrailingSeparators() {
+        return ArtistNormalizer.removeTrailingSeparators(title);
+    }
+
+    @Benchmark
+    public String removeTrailingSeparatorsWithRecompile() {
+        String result = title;
+        for (Pattern p : RegexPattern.getAll()) {
+            String pattern = p.pattern();
+            pattern = pattern.substring(0, pattern.length() - 1);
+            result = result.replaceAll(pattern + "$", "");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LevenshteinDistanceBenchmark {
+    @Param({"Above & Beyond feat. Richard Bedford - Sun & Moon (Original Mix)"})
+    private String source;
+
+    @Param({"Above and Beyond feat Richard Bedford - Sun and Moon (Club Mix)", "Armin van Buuren - Blah Blah Blah",
+            "Above and Beyond feat Richard Bedford - Sun and Moon (Original Mix) [Anjunabeats Volume Five Continuous Mix]"})
+    private String target;
+
+    @Param({"21"})
+    private int maxDistance;
+
+    @Benchmark
+    public int calculate() {
+        return LevenshteinDistance.calculate(source, target);
+    }
+
+    @Benchmark
+    public int calculateBounded() {
+        return LevenshteinDistance.calculate(source, target, maxDistance);
+    }
+
+    @Benchmark
+    public int calculateWithTwoRowMatrix() {
+        return calculateWithTwoRowMatrix(source, target);
+    }
+
+    private static int calculateWithTwoRowMatrix(String source, String target) {
+        source = source.toLowerCase();
+        target = target.toLowerCase();
+        if (source.length() > target.length()) {
+            String temp = target;
+            target = source;
+            source = temp;
+        }
+
+        int m = target.length();
+        int[][] distance = new int[2][m + 1];
+        for (int j = 1; j <= m; j++) {
+            distance[0][j] = j;
+        }
+        int currentRow = 0;
+        for (int i = 1; i <= source.length(); ++i) {
+            currentRow = i & 1;
+            distance[currentRow][0] = i;
+            int previousRow = currentRow ^ 1;
+            for (int j = 1; j <= m; j++) {
+                int cost = target.charAt(j - 1) == source.charAt(i - 1) ? 0 : 1;
+                distance[currentRow][j] = Math.min(Math.min(distance[previousRow][j] + 1, distance[currentRow][j - 1] + 1), distance[previousRow][j - 1] + cost);
+            }
+        }
+        return distance[currentRow][m];
+    }
+}
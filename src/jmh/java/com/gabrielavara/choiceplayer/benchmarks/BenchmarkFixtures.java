@@ -0,0 +1,45 @@
+package com.gabrielavara.choiceplayer.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+import com.gabrielavara.choiceplayer.views.PlaylistItemView;
+
+public class BenchmarkFixtures {
+    private BenchmarkFixtures() {
+    }
+
+    public static List<PlaylistItemView> createPlaylist(int size) {
+        return IntStream.range(0, size).mapToObj(i -> new PlaylistItemView(i + 1, createMp3(i))).collect(Collectors.toList());
+    }
+
+    public static Mp3 createMp3(int index) {
+        Mp3 mp3 = new Mp3();
+        mp3.setArtist("Artist " + index / 10 + " feat. Guest " + index);
+        mp3.setTitle("Title " + index + " (Original Mix)");
+        mp3.setAlbum("Album " + index / 10);
+        mp3.setYear("2018");
+        mp3.setTrack(String.valueOf(index % 10 + 1));
+        mp3.setLength(300000 + index);
+        mp3.setFilename("C:\\Music\\" + index + ".mp3");
+        return mp3;
+    }
+
+    public static void delete(Path folder) throws IOException {
+        if (!Files.exists(folder)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.gabrielavara.choiceplayer.benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import com.mpatric.mp3agic.ID3v1Tag;
+import com.mpatric.mp3agic.ID3v24Tag;
+import com.mpatric.mp3agic.NotSupportedException;
+
+public class Mp3FixtureGenerator {
+    private static final byte[] FRAME_HEADER = {(byte) 0xFF, (byte) 0xFB, (byte) 0x90, (byte) 0x64};
+    private static final int FRAME_LENGTH = 417;
+    private static final int FRAMES_PER_FILE = 40;
+    private static final int TRACKS_PER_ALBUM = 10;
+    private static final int ALBUM_ART_SIZE = 500;
+    private static final long SEED = 42;
+    private static final long BASE_TIME = 1500000000000L;
+
+    private Mp3FixtureGenerator() {
+    }
+
+    public static List<Path> generate(Path folder, int count) throws IOException {
+        return generate(folder, count, true);
+    }
+
+    public static List<Path> generate(Path folder, int count, boolean withAlbumArt) throws IOException {
+        Files.createDirectories(folder);
+        Random random = new Random(SEED);
+        byte[] audio = createAudio();
+        byte[] id3v1Tag = createId3v1Tag();
+        List<Path> paths = new ArrayList<>(count);
+        byte[] albumArt = null;
+        for (int i = 0; i < count; i++) {
+            int album = i / TRACKS_PER_ALBUM;
+            int track = i % TRACKS_PER_ALBUM + 1;
+            if (withAlbumArt && track == 1) {
+                albumArt = createAlbumArt(random);
+            }
+            Path path = folder.resolve(String.format("%06d - Artist %d - Title %d.mp3", i, random.nextInt(count), i));
+            writeFile(path, createTag(album, track, i, withAlbumArt ? albumArt : null), audio, id3v1Tag);
+            Files.setLastModifiedTime(path, FileTime.fromMillis(BASE_TIME + album * 60000L + track));
+            paths.add(path);
+        }
+        return paths;
+    }
+
+    private static byte[] createTag(int album, int track, int index, byte[] albumArt) {
+        ID3v24Tag tag = new ID3v24Tag();
+        tag.setArtist("Artist " + album + " feat. Guest " + index);
+        tag.setTitle("Title " + index + " (Original Mix)");
+        tag.setAlbum("Album " + album);
+        tag.setYear("2018");
+        tag.setTrack(track + "/" + TRACKS_PER_ALBUM);
+        tag.setGenre(0);
+        if (albumArt != null) {
+            tag.setAlbumImage(albumArt, "image/jpeg");
+        }
+        try {
+            return tag.toBytes();
+        } catch (NotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] createId3v1Tag() {
+        ID3v1Tag tag = new ID3v1Tag();
+        tag.setTitle("Title");
+        tag.setArtist("Artist");
+        return tag.toBytes();
+    }
+
+    private static byte[] createAudio() {
+        byte[] audio = new byte[FRAME_LENGTH * FRAMES_PER_FILE];
+        for (int i = 0; i < FRAMES_PER_FILE; i++) {
+            System.arraycopy(FRAME_HEADER, 0, audio, i * FRAME_LENGTH, FRAME_HEADER.length);
+        }
+        return audio;
+    }
+
+    private static byte[] createAlbumArt(Random random) throws IOException {
+        BufferedImage image = new BufferedImage(ALBUM_ART_SIZE, ALBUM_ART_SIZE, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        for (int i = 0; i < 20; i++) {
+            graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+            graphics.fillRect(random.nextInt(ALBUM_ART_SIZE), random.nextInt(ALBUM_ART_SIZE), random.nextInt(ALBUM_ART_SIZE), random.nextInt(ALBUM_ART_SIZE));
+        }
+        graphics.dispose();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static void writeFile(Path path, byte[] tag, byte[] audio, byte[] id3v1Tag) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            outputStream.write(tag);
+            outputStream.write(audio);
+            outputStream.write(id3v1Tag);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path folder = Paths.get(args.length > 0 ? args[0] : "target/benchmark-fixtures");
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        generate(folder, count);
+    }
+}
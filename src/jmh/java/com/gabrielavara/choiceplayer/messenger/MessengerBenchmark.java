@@ -0,0 +1,51 @@
+package com.gabrielavara.choiceplayer.messenger;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.gabrielavara.choiceplayer.messages.PlaylistLoadedMessage;
+import com.gabrielavara.choiceplayer.messages.SnackBarMessage;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MessengerBenchmark {
+    private static final int CONSUMERS = 5;
+
+    private Blackhole blackhole;
+    private final PlaylistLoadedMessage registeredMessage = new PlaylistLoadedMessage();
+    private final SnackBarMessage unregisteredMessage = new SnackBarMessage("key");
+
+    @Setup(Level.Trial)
+    public void setup(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        for (int i = 0; i < CONSUMERS; i++) {
+            Messenger.register(PlaylistLoadedMessage.class, m -> this.blackhole.consume(m));
+        }
+    }
+
+    @Benchmark
+    public void sendToConsumers() {
+        Messenger.send(registeredMessage);
+    }
+
+    @Benchmark
+    public void sendWithoutConsumers() {
+        Messenger.send(unregisteredMessage);
+    }
+}
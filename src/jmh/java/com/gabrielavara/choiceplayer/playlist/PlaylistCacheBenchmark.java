@@ -0,0 +1,75 @@
+package com.gabrielavara.choiceplayer.playlist;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabrielavara.choiceplayer.benchmarks.BenchmarkFixtures;
+import com.gabrielavara.choiceplayer.views.PlaylistItemView;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PlaylistCacheBenchmark {
+    @Param({"40000"})
+    private int size;
+
+    private Path folder;
+    private Path binaryPath;
+    private Path jsonPath;
+    private List<PlaylistItemView> playlist;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        folder = Files.createTempDirectory("choice-player-benchmark");
+        binaryPath = folder.resolve("playlistCache.bin");
+        jsonPath = folder.resolve("playlistCache.json");
+        playlist = BenchmarkFixtures.createPlaylist(size);
+        BinaryPlaylistCache.write(binaryPath, playlist);
+        PlaylistCache.exportJson(jsonPath, playlist);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkFixtures.delete(folder);
+    }
+
+    @Benchmark
+    public List<PlaylistItemView> loadBinary() throws IOException {
+        return BinaryPlaylistCache.read(binaryPath);
+    }
+
+    @Benchmark
+    public void saveBinary() throws IOException {
+        BinaryPlaylistCache.write(binaryPath, playlist);
+    }
+
+    @Benchmark
+    public List<PlaylistItemView> importJson() {
+        return PlaylistCache.importJson(jsonPath);
+    }
+
+    @Benchmark
+    public void exportJson() {
+        PlaylistCache.exportJson(jsonPath, playlist);
+    }
+}
@@ -0,0 +1,69 @@
+package com.gabrielavara.choiceplayer.playlist;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabrielavara.choiceplayer.benchmarks.BenchmarkFixtures;
+import com.gabrielavara.choiceplayer.benchmarks.Mp3FixtureGenerator;
+import com.gabrielavara.choiceplayer.dto.Mp3;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PlaylistLoaderBenchmark {
+    @Param({"1000"})
+    private int fileCount;
+
+    private Path folder;
+    private Path coldIndexPath;
+    private Path warmIndexPath;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        folder = Files.createTempDirectory("choice-player-benchmark");
+        Mp3FixtureGenerator.generate(folder.resolve("mp3"), fileCount);
+        coldIndexPath = folder.resolve("coldIndex.json");
+        warmIndexPath = folder.resolve("warmIndex.json");
+        new PlaylistLoader(PlaylistIndex.load(warmIndexPath)).load(folder.resolve("mp3"));
+    }
+
+    @Setup(Level.Invocation)
+    public void deleteColdIndex() throws IOException {
+        Files.deleteIfExists(coldIndexPath);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkFixtures.delete(folder);
+    }
+
+    @Benchmark
+    public List<Mp3> loadWithoutIndex() {
+        return new PlaylistLoader(PlaylistIndex.load(coldIndexPath)).load(folder.resolve("mp3"));
+    }
+
+    @Benchmark
+    public List<Mp3> loadWithIndex() {
+        return new PlaylistLoader(PlaylistIndex.load(warmIndexPath)).load(folder.resolve("mp3"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.gabrielavara.choiceplayer.playlist;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabrielavara.choiceplayer.benchmarks.BenchmarkFixtures;
+import com.gabrielavara.choiceplayer.dto.Mp3;
+import com.gabrielavara.choiceplayer.views.PlaylistItemView;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PlaylistUtilBenchmark {
+    @Param({"100000"})
+    private int size;
+
+    private ObservableList<PlaylistItemView> playlistItems;
+    private PlaylistUtil playlistUtil;
+    private Mp3 lastMp3;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        playlistItems = FXCollections.observableArrayList(BenchmarkFixtures.createPlaylist(size));
+        playlistUtil = new PlaylistUtil(playlistItems);
+        playlistItems.get(size / 2).getMp3().setCurrentlyPlaying(true);
+        lastMp3 = playlistItems.get(size - 1).getMp3();
+    }
+
+    @Benchmark
+    public Optional<PlaylistItemView> getNextPlaylistItemView() {
+        return playlistUtil.getNextPlaylistItemView();
+    }
+
+    @Benchmark
+    public Optional<Mp3> getPreviousTrack() {
+        return playlistUtil.getPreviousTrack();
+    }
+
+    @Benchmark
+    public Optional<PlaylistItemView> getCurrentlyPlayingPlaylistItemView() {
+        return playlistUtil.getCurrentlyPlayingPlaylistItemView();
+    }
+
+    @Benchmark
+    public OptionalInt getPlaylistIndex() {
+        return playlistUtil.getPlaylistIndex(lastMp3);
+    }
+}
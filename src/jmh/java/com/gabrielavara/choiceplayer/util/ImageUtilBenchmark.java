@@ -0,0 +1,64 @@
+package com.gabrielavara.choiceplayer.util;
+
+import static com.gabrielavara.choiceplayer.Constants.BIG_ALBUM_ART_SIZE;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabrielavara.choiceplayer.benchmarks.BenchmarkFixtures;
+import com.gabrielavara.choiceplayer.benchmarks.Mp3FixtureGenerator;
+import com.gabrielavara.choiceplayer.tag.Id3TagReader;
+import com.mpatric.mp3agic.ID3v2;
+
+import javafx.scene.image.Image;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImageUtilBenchmark {
+    private byte[] albumArtData;
+    private Image image;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Path folder = Files.createTempDirectory("choice-player-benchmark");
+        try {
+            List<Path> paths = Mp3FixtureGenerator.generate(folder, 1);
+            albumArtData = Id3TagReader.readId3v2Tag(paths.get(0)).map(ID3v2::getAlbumImage)
+                    .orElseThrow(() -> new IOException("Fixture has no album art"));
+        } finally {
+            BenchmarkFixtures.delete(folder);
+        }
+        image = new Image(new ByteArrayInputStream(albumArtData), BIG_ALBUM_ART_SIZE, BIG_ALBUM_ART_SIZE, true, false);
+    }
+
+    @Benchmark
+    public Image getAlbumArt() {
+        return ImageUtil.getAlbumArt(Optional.of(albumArtData), BIG_ALBUM_ART_SIZE);
+    }
+
+    @Benchmark
+    public Image getGrayScaleImage() {
+        return ImageUtil.getGrayScaleImage(image);
+    }
+}
@@ -27,6 +27,25 @@ public class Constants {
 
     public static final int SEEK_SECONDS = 10;
 
+    public static final int MESSENGER_QUEUE_CAPACITY = 1024;
+    public static final int MESSENGER_WINDOW_MS = 100;
+
+    public static final int BEATPORT_MAX_ATTEMPTS = 3;
+    public static final long BEATPORT_RETRY_BACKOFF_MS = 2000;
+    public static final int BEATPORT_PROGRESS_INTERVAL = 25;
+    public static final int BEATPORT_DOWNLOAD_THREADS = 2;
+    public static final int BEATPORT_TAG_WRITER_THREADS = 1;
+    public static final int BEATPORT_STAGE_QUEUE_CAPACITY = 16;
+    public static final int BEATPORT_CONNECT_TIMEOUT_MS = 10000;
+    public static final int BEATPORT_READ_TIMEOUT_MS = 20000;
+    public static final String BEATPORT_CACHE_FILE = "beatportCache.json";
+    public static final int BEATPORT_CACHE_SIZE = 20000;
+    public static final int BEATPORT_CACHE_TTL_DAYS = 30;
+    public static final int BEATPORT_CACHE_NOT_FOUND_TTL_DAYS = 7;
+
+    public static final int PLAYLIST_LOADER_THREADS = 4;
+    public static final int PLAYLIST_LOADER_BATCH_SIZE = 200;
+
     public static final String DEFAULT_ALBUM_ART = "src/main/resources/images/default-album-art.jpg";
     public static final String DEFAULT_ALBUM_ART_PNG = "src/main/resources/images/default-album-art.png";
     public static final int BIG_ALBUM_ART_SIZE = 350;
@@ -35,6 +54,9 @@ public class Constants {
     public static final int BIG_ALBUM_ART_TRANSLATE_Y = 50;
     public static final int ALBUM_ART_SIZE = 72;
     public static final int ALBUM_ART_TRANSLATE_X = 20;
+    public static final int ALBUM_ART_LOADER_THREADS = 4;
+    public static final long ALBUM_ART_CACHE_MAX_BYTES = 32 * 1024 * 1024;
+    public static final String THUMBNAIL_STORE_FOLDER = "thumbnails";
 
     public static final String RECYCLE_BIN = "Recycle bin";
     public static final String COULD_NOT_MOVE_FILE_TO_RECYCLE_BIN = "couldNotMoveFileToRecycleBin";
@@ -43,9 +65,12 @@ public class Constants {
     public static final String LOAD_FILES_FROM_DISK = "loadFilesFromDisk";
     public static final String FILES_LOADED_FROM_DISK = "filesLoadedFromDisk";
     public static final String BEATPORT_UPDATE_FINISHED = "beatportUpdateFinished";
+    public static final String BEATPORT_PROGRESS = "beatportProgress";
     public static final String UPDATE_TAGS_FROM_BEATPORT = "updateTagsFromBeatport";
     public static final String MOVED_TO_LIKED = "movedToLiked";
     public static final String MOVED_TO_TRASH = "movedToTrash";
+    public static final String MULTIPLE_MOVED_TO_LIKED = "multipleMovedToLiked";
+    public static final String MULTIPLE_MOVED_TO_TRASH = "multipleMovedToTrash";
 
     public static final String STYLE_CSS = "style.css";
     public static final String COLOR_PATTERN = "rgb({0}, {1}, {2})";
@@ -56,6 +81,10 @@ public class Constants {
     public static final int BADGE_VISIBILITY_SECONDS = 3;
 
     public static final double BACKGROUND_IMAGE_OPACITY = 0.2;
+    public static final int BACKGROUND_IMAGE_SIZE = 512;
+    public static final int BACKGROUND_BLUR_RADIUS = 5;
+    public static final int BACKGROUND_BLUR_ITERATIONS = 3;
+    public static final int RENDER_VARIANT_CACHE_SIZE = 4;
 
     public static final int TOAST_TIMEOUT = 5000;
 
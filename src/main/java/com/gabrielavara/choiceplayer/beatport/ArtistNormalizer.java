@@ -0,0 +1,85 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+class ArtistNormalizer {
+    private static final String SPACE = " ";
+    private static final List<RegexPattern> GROUP_RULES = new ArrayList<>();
+    private static final Pattern SEPARATORS = Pattern.compile(SPACE + "(?:" + getAlternatives(true) + ")(?= )|(?:" + getAlternatives(false) + ")(?= )");
+    private static final List<Pattern> TRAILING_SEPARATORS = RegexPattern.getAll().stream()
+            .map(p -> Pattern.compile(withoutTrailingSpace(p) + "$"))
+            .collect(Collectors.toList());
+
+    private ArtistNormalizer() {
+    }
+
+    /**
+     * Rewrites every separator to its canonical form in one pass. A match stops before the space that ends it, so
+     * the next separator can start on that space, just as when the patterns were applied one after the other.
+     */
+    static String normalize(String artist, boolean commaAsAnd) {
+        Matcher matcher = SEPARATORS.matcher(artist);
+        if (!matcher.find()) {
+            return artist;
+        }
+        StringBuilder result = new StringBuilder(artist.length() + 16);
+        int last = 0;
+        do {
+            RegexPattern rule = getMatchedRule(matcher);
+            String replaceWith = rule == RegexPattern.COMMA && commaAsAnd ? RegexPattern.AND.getReplaceWith() : rule.getReplaceWith();
+            result.append(artist, last, matcher.start()).append(replaceWith, 0, replaceWith.length() - 1);
+            last = matcher.end();
+        } while (matcher.find());
+        return result.append(artist, last, artist.length()).toString();
+    }
+
+    static String removeSeparators(String artist) {
+        return SEPARATORS.matcher(artist).replaceAll("");
+    }
+
+    static String removeTrailingSeparators(String title) {
+        String result = title;
+        for (Pattern pattern : TRAILING_SEPARATORS) {
+            result = pattern.matcher(result).replaceAll("");
+        }
+        return result;
+    }
+
+    private static RegexPattern getMatchedRule(Matcher matcher) {
+        for (int group = 1; group <= GROUP_RULES.size(); group++) {
+            if (matcher.start(group) >= 0) {
+                return GROUP_RULES.get(group - 1);
+            }
+        }
+        throw new IllegalStateException("No separator matched at " + matcher.start());
+    }
+
+    /**
+     * Separators that start with a space share it, so the matcher checks the space once instead of trying every
+     * alternative at every position. Each rule becomes one capturing group, in the order of {@code GROUP_RULES}.
+     */
+    private static String getAlternatives(boolean startingWithSpace) {
+        List<String> groups = new ArrayList<>();
+        for (RegexPattern rule : RegexPattern.values()) {
+            String alternatives = rule.getPatterns().stream()
+                    .map(ArtistNormalizer::withoutTrailingSpace)
+                    .filter(p -> p.startsWith(SPACE) == startingWithSpace)
+                    .map(p -> startingWithSpace ? p.substring(SPACE.length()) : p)
+                    .collect(Collectors.joining("|"));
+            if (!alternatives.isEmpty()) {
+                groups.add("(" + alternatives + ")");
+                GROUP_RULES.add(rule);
+            }
+        }
+        return String.join("|", groups);
+    }
+
+    private static String withoutTrailingSpace(Pattern pattern) {
+        String regex = pattern.pattern();
+        return regex.substring(0, regex.length() - 1);
+    }
+}
@@ -35,6 +35,10 @@ public class BeatportAlbumParser extends BeatportParser<BeatportRelease, Beatpor
         super(driver);
     }
 
+    BeatportAlbumParser(WebDriver driver, HostRateLimiter rateLimiter) {
+        super(driver, rateLimiter);
+    }
+
     @Override
     protected String getUrl(BeatportRelease beatportRelease) {
         log.info("Get album: {}", beatportRelease);
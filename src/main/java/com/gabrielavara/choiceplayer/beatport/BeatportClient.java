@@ -0,0 +1,11 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+
+interface BeatportClient {
+    BeatportReleases searchReleases(Mp3 mp3);
+
+    BeatportAlbum getAlbum(BeatportRelease release);
+
+    void close();
+}
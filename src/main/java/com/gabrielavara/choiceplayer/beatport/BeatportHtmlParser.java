@@ -0,0 +1,107 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.text.WordUtils;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+class BeatportHtmlParser {
+    private static final String RELEASE_TITLES = "div.search-component ul.tile-list-items a.item-title";
+    private static final String RELEASE_ARTISTS = "a";
+    private static final int MAX_RELEASE_ARTISTS = 5;
+
+    private static final String RELEASE_DETAIL = "div.line.release-detail";
+    private static final String ALBUM_TITLE = "h2";
+    private static final String ALBUM_ART = "span.artwork > img";
+    private static final String META_DATA_ROWS = "table.meta-data tr";
+    private static final String TRACK_ROWS = "table.track-grid.track-grid-release tr";
+    private static final String TITLE_COLUMN = "td.titleColumn";
+
+    private BeatportHtmlParser() {
+    }
+
+    static BeatportReleases parseReleases(Document document) {
+        List<BeatportRelease> releases = new ArrayList<>();
+        Set<String> titles = new LinkedHashSet<>();
+        for (Element titleElement : document.select(RELEASE_TITLES)) {
+            String title = titleElement.text();
+            if (title.isEmpty() || !titles.add(title)) {
+                continue;
+            }
+            List<String> artists = getTexts(getReleaseArtists(titleElement)).stream().limit(MAX_RELEASE_ARTISTS).collect(Collectors.toList());
+            releases.add(new BeatportRelease(artists, title, titleElement.absUrl("href")));
+        }
+        return new BeatportReleases(releases);
+    }
+
+    private static Elements getReleaseArtists(Element titleElement) {
+        Elements artists = new Elements();
+        for (Element sibling = titleElement.nextElementSibling(); sibling != null; sibling = sibling.nextElementSibling()) {
+            if ("span".equals(sibling.tagName()) && sibling.hasClass("item-list")) {
+                artists.addAll(sibling.select(RELEASE_ARTISTS));
+            }
+        }
+        return artists;
+    }
+
+    static BeatportAlbum parseAlbum(Document document) {
+        BeatportAlbum beatportAlbum = new BeatportAlbum();
+        Element releaseDetail = document.selectFirst(RELEASE_DETAIL);
+        if (releaseDetail == null) {
+            throw new IllegalStateException("Release details not found in " + document.location());
+        }
+        beatportAlbum.setTitle(WordUtils.capitalizeFully(releaseDetail.select(ALBUM_TITLE).text()));
+        Element albumArt = releaseDetail.selectFirst(ALBUM_ART);
+        beatportAlbum.setAlbumArtUrl(albumArt == null ? null : albumArt.absUrl("src").replace("212x212", "500x500"));
+
+        Elements metaData = releaseDetail.select(META_DATA_ROWS);
+        beatportAlbum.setReleaseDate(getMetaData(metaData, 0));
+        beatportAlbum.setLabel(getMetaData(metaData, 1));
+        beatportAlbum.setCatalog(getMetaData(metaData, 2));
+
+        Set<String> albumArtists = new LinkedHashSet<>();
+        for (Element row : document.select(TRACK_ROWS)) {
+            Element titleColumn = row.selectFirst(TITLE_COLUMN);
+            if (titleColumn != null) {
+                beatportAlbum.addTrack(parseTrack(row, titleColumn, albumArtists));
+            }
+        }
+        beatportAlbum.setArtists(new ArrayList<>(albumArtists));
+        return beatportAlbum;
+    }
+
+    private static String getMetaData(Elements rows, int index) {
+        if (rows.size() <= index || rows.get(index).children().size() < 2) {
+            return "";
+        }
+        return rows.get(index).child(1).text();
+    }
+
+    private static BeatportTrack parseTrack(Element row, Element titleColumn, Set<String> albumArtists) {
+        String number = row.select("td.playColumn span.txt-grey").text();
+        Elements titleAndMix = titleColumn.select("> a > span");
+        String title = titleAndMix.isEmpty() ? "" : titleAndMix.get(0).text();
+        String mix = titleAndMix.size() < 2 ? "" : titleAndMix.get(1).text();
+
+        Elements columns = row.children();
+        Element lengthAndBpmElement = columns.size() < 3 ? null : columns.get(2).selectFirst("> span");
+        String lengthAndBpm = lengthAndBpmElement == null ? "" : lengthAndBpmElement.text();
+        int bpm = BeatportAlbumParser.getBpm(lengthAndBpm);
+        int length = BeatportAlbumParser.getLength(lengthAndBpm);
+
+        List<String> artists = getTexts(titleColumn.select("> span.artistList > a"));
+        albumArtists.addAll(artists);
+        List<String> genres = getTexts(row.select("span.genreList a"));
+        return new BeatportTrack(number, artists, title, mix, genres, bpm, length);
+    }
+
+    private static List<String> getTexts(Elements elements) {
+        return elements.stream().map(Element::text).distinct().filter(s -> !s.isEmpty()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,146 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import static com.gabrielavara.choiceplayer.Constants.BEATPORT_CACHE_FILE;
+import static com.gabrielavara.choiceplayer.Constants.BEATPORT_CACHE_NOT_FOUND_TTL_DAYS;
+import static com.gabrielavara.choiceplayer.Constants.BEATPORT_CACHE_SIZE;
+import static com.gabrielavara.choiceplayer.Constants.BEATPORT_CACHE_TTL_DAYS;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+class BeatportLookupCache {
+    private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.beatport.BeatportLookupCache");
+
+    private static BeatportLookupCache defaultCache;
+
+    private final Path file;
+    private final long ttlMillis;
+    private final long notFoundTtlMillis;
+    private final LongSupplier clock;
+    private final Map<String, CacheEntry> entries;
+    private boolean dirty;
+
+    BeatportLookupCache(Path file, int maxSize, long ttlMillis, long notFoundTtlMillis, LongSupplier clock) {
+        this.file = file;
+        this.ttlMillis = ttlMillis;
+        this.notFoundTtlMillis = notFoundTtlMillis;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        load();
+    }
+
+    static synchronized BeatportLookupCache getDefault() {
+        if (defaultCache == null) {
+            defaultCache = new BeatportLookupCache(Paths.get(BEATPORT_CACHE_FILE), BEATPORT_CACHE_SIZE,
+                    TimeUnit.DAYS.toMillis(BEATPORT_CACHE_TTL_DAYS), TimeUnit.DAYS.toMillis(BEATPORT_CACHE_NOT_FOUND_TTL_DAYS), System::currentTimeMillis);
+        }
+        return defaultCache;
+    }
+
+    synchronized Optional<CacheEntry> get(String url) {
+        CacheEntry entry = entries.get(url);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (isExpired(entry, clock.getAsLong())) {
+            entries.remove(url);
+            dirty = true;
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    void putReleases(String url, BeatportReleases releases) {
+        put(url, new CacheEntry(clock.getAsLong(), !releases.getReleases().isEmpty(), releases, null));
+    }
+
+    void putAlbum(String url, BeatportAlbum album) {
+        put(url, new CacheEntry(clock.getAsLong(), true, null, album));
+    }
+
+    void putNotFound(String url) {
+        put(url, new CacheEntry(clock.getAsLong(), false, null, null));
+    }
+
+    private synchronized void put(String url, CacheEntry entry) {
+        entries.put(url, entry);
+        dirty = true;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private boolean isExpired(CacheEntry entry, long now) {
+        return now - entry.getTimestamp() > (entry.isFound() ? ttlMillis : notFoundTtlMillis);
+    }
+
+    synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        Path temporaryPath = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            new ObjectMapper().writeValue(temporaryPath.toFile(), entries);
+            Files.move(temporaryPath, file, REPLACE_EXISTING, ATOMIC_MOVE);
+            dirty = false;
+            log.info("Beatport lookup cache saved, {} entries", entries.size());
+        } catch (IOException e) {
+            log.error("Could not save Beatport lookup cache", e);
+        }
+    }
+
+    private void load() {
+        if (!file.toFile().exists()) {
+            return;
+        }
+        try {
+            Map<String, CacheEntry> loaded = new ObjectMapper().readValue(file.toFile(), new TypeReference<LinkedHashMap<String, CacheEntry>>() {
+            });
+            long now = clock.getAsLong();
+            loaded.forEach((url, entry) -> {
+                if (!isExpired(entry, now)) {
+                    entries.put(url, entry);
+                }
+            });
+            dirty = entries.size() != loaded.size();
+            log.info("Beatport lookup cache loaded, {} entries", entries.size());
+        } catch (IOException e) {
+            log.error("Could not load Beatport lookup cache", e);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CacheEntry {
+        private long timestamp;
+        private boolean found;
+        private BeatportReleases releases;
+        private BeatportAlbum album;
+    }
+}
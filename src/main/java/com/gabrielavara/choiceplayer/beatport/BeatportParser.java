@@ -1,8 +1,6 @@
 package com.gabrielavara.choiceplayer.beatport;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.openqa.selenium.WebDriver;
@@ -12,24 +10,23 @@ abstract class BeatportParser<T extends BeatportSearchInput, U extends BeatportS
     static final String BEATPORT_COM = "http://classic.beatport.com";
     static final String UTF_8 = "UTF-8";
 
-    private Map<String, U> searchResults = new HashMap<>();
-
     private WebDriver driver;
+    private HostRateLimiter rateLimiter;
 
     BeatportParser(WebDriver driver) {
+        this(driver, HostRateLimiter.unlimited());
+    }
+
+    BeatportParser(WebDriver driver, HostRateLimiter rateLimiter) {
         this.driver = driver;
+        this.rateLimiter = rateLimiter;
     }
 
     U parse(T input) {
         String url = getUrl(input);
-        if (searchResults.containsKey(url)) {
-            return searchResults.get(url);
-        }
-
+        rateLimiter.acquire(url);
         driver.get(url);
-        U results = parseDocument(driver);
-        searchResults.put(url, results);
-        return results;
+        return parseDocument(driver);
     }
 
     protected abstract String getUrl(T input);
@@ -0,0 +1,44 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import static com.gabrielavara.choiceplayer.Constants.BEATPORT_PROGRESS;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gabrielavara.choiceplayer.messages.SnackBarMessage;
+import com.gabrielavara.choiceplayer.util.TimeFormatter;
+
+class BeatportProgress {
+    private final int total;
+    private final long startNanos;
+    private final AtomicInteger completed = new AtomicInteger();
+
+    BeatportProgress(int total) {
+        this(total, System.nanoTime());
+    }
+
+    BeatportProgress(int total, long startNanos) {
+        this.total = total;
+        this.startNanos = startNanos;
+    }
+
+    int complete() {
+        return completed.incrementAndGet();
+    }
+
+    double getTracksPerMinute(long nowNanos) {
+        double minutes = (nowNanos - startNanos) / (double) TimeUnit.MINUTES.toNanos(1);
+        return minutes <= 0 ? 0 : completed.get() / minutes;
+    }
+
+    int getRemainingSeconds(long nowNanos) {
+        double tracksPerMinute = getTracksPerMinute(nowNanos);
+        return tracksPerMinute <= 0 ? 0 : (int) Math.ceil((total - completed.get()) / tracksPerMinute * 60);
+    }
+
+    SnackBarMessage toSnackBarMessage(long nowNanos) {
+        String tracksPerMinute = String.format("%.1f", getTracksPerMinute(nowNanos));
+        String remaining = TimeFormatter.getFormattedLength(getRemainingSeconds(nowNanos));
+        return new SnackBarMessage(BEATPORT_PROGRESS, new Object[]{completed.get(), total, tracksPerMinute, remaining});
+    }
+}
@@ -4,8 +4,10 @@ import java.util.List;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
 class BeatportRelease implements BeatportSearchInput {
     private List<String> artists;
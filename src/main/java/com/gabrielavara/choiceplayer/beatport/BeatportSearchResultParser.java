@@ -7,7 +7,6 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
@@ -21,7 +20,7 @@ import com.google.common.base.Joiner;
 public class BeatportSearchResultParser extends BeatportParser<Mp3, BeatportReleases> {
     private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.beatport.BeatportSearchResultParser");
 
-    private static final String SEARCH_URL = BEATPORT_COM + "/search?query={0}&facets[0]=fieldType%3Arelease";
+    private static final String SEARCH_URL = "{0}/search?query={1}&facets[0]=fieldType%3Arelease";
 
     private static final String RELEASES_XPATH = "//div[@class='search-component']//ul[contains(@class,'tile-list-items')]";
     private static final String RELEASE_TITLES_XPATH = RELEASES_XPATH + "//a[@class='item-title']";
@@ -31,11 +30,19 @@ public class BeatportSearchResultParser extends BeatportParser<Mp3, BeatportRele
         super(driver);
     }
 
+    BeatportSearchResultParser(WebDriver driver, HostRateLimiter rateLimiter) {
+        super(driver, rateLimiter);
+    }
+
     @Override
     protected String getUrl(Mp3 mp3) {
+        return getSearchUrl(BEATPORT_COM, mp3);
+    }
+
+    static String getSearchUrl(String baseUrl, Mp3 mp3) {
         String queryString = null;
         try {
-            String artist = sanitizeArtist(mp3.getArtist());
+            String artist = ArtistNormalizer.removeSeparators(mp3.getArtist());
             String album = getAlbumForSearch(mp3);
             String artistAndAlbum = artist + " " + album;
             log.info("Search on Beatport for: {}", artistAndAlbum);
@@ -43,19 +50,11 @@ public class BeatportSearchResultParser extends BeatportParser<Mp3, BeatportRele
         } catch (UnsupportedEncodingException e) {
             log.error(e.getMessage(), e);
         }
-        String url = format(SEARCH_URL, queryString);
+        String url = format(SEARCH_URL, baseUrl, queryString);
         log.info("Search url: {}", url);
         return url;
     }
 
-    private static String sanitizeArtist(String artist) {
-        String result = artist;
-        for (Pattern pattern : RegexPattern.getAll()) {
-            result = pattern.matcher(result).replaceAll(" ");
-        }
-        return result;
-    }
-
     static String getAlbumForSearch(Mp3 mp3) {
         String album = mp3.getAlbum();
         album = album.replaceAll("_+", " ");
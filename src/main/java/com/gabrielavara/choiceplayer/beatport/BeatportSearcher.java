@@ -4,36 +4,41 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 
-import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.gabrielavara.choiceplayer.dto.Mp3;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 class BeatportSearcher {
     private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.beatport.BeatportSearcher");
-    private static final int MAX_DISTANCE = 22;
+    static final int MAX_DISTANCE = 22;
+    private static final int FIRST_RELEASES = 10;
+    private static final int MORE_RELEASES_FROM = 11;
 
-    private WebDriver driver;
+    private static final Cache<BeatportReleases, ReleaseCandidateIndex> candidateIndexes = CacheBuilder.newBuilder().weakKeys().build();
 
-    static {
-        System.setProperty("webdriver.chrome.driver", "src/main/resources/chromedriver-2.35.exe");
-    }
+    private final BeatportClient client;
 
     BeatportSearcher() {
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("headless");
-        options.addArguments("window-size=1200x600");
-        driver = new ChromeDriver(options);
+        this(new ChromeBeatportClient(HostRateLimiter.unlimited()));
+    }
+
+    BeatportSearcher(BeatportClient client) {
+        this.client = client;
+    }
+
+    void close() {
+        client.close();
     }
 
     Optional<BeatportAlbum> search(Mp3 mp3) {
         Optional<BeatportRelease> beatportRelease = getBestBeatportRelease(mp3);
         if (beatportRelease.isPresent()) {
-            BeatportAlbum beatportAlbum = new BeatportAlbumParser(driver).parse(beatportRelease.get());
+            BeatportAlbum beatportAlbum = client.getAlbum(beatportRelease.get());
             return Optional.of(beatportAlbum);
         } else {
             log.info("Not found\n");
@@ -42,7 +47,7 @@ class BeatportSearcher {
     }
 
     private Optional<BeatportRelease> getBestBeatportRelease(Mp3 mp3) {
-        BeatportReleases releases = new BeatportSearchResultParser(driver).parse(mp3);
+        BeatportReleases releases = client.searchReleases(mp3);
         if (releases.getReleases().isEmpty()) {
             log.info("No release found");
             return Optional.empty();
@@ -52,7 +57,7 @@ class BeatportSearcher {
         String album = BeatportSearchResultParser.getAlbumForSearch(mp3);
 
         int size = releases.getReleases().size();
-        releases.getReleases().subList(0, Math.min(10, size)).forEach(r -> albumDistances.add(LevenshteinDistance.calculate(album, r.getAlbum())));
+        releases.getReleases().subList(0, Math.min(FIRST_RELEASES, size)).forEach(r -> albumDistances.add(LevenshteinDistance.calculate(album, r.getAlbum())));
         Optional<Integer> min = albumDistances.stream().min(Comparator.comparingInt(i -> i));
 
         if (min.isPresent()) {
@@ -70,16 +75,24 @@ class BeatportSearcher {
 
     private Optional<BeatportRelease> checkMoreReleases(BeatportReleases releases, String album) {
         log.info("Check more releases");
-        int size = releases.getReleases().size();
-        if (size < 11) {
+        if (releases.getReleases().size() <= MORE_RELEASES_FROM) {
             return Optional.empty();
         }
-        for (BeatportRelease release : releases.getReleases().subList(11, size)) {
-            int distance = LevenshteinDistance.calculate(album, release.getAlbum());
+        ReleaseCandidateIndex index = getCandidateIndex(releases);
+        for (BeatportRelease release : index.getCandidates(album, MAX_DISTANCE - 1, MORE_RELEASES_FROM)) {
+            int distance = LevenshteinDistance.calculate(album, release.getAlbum(), MAX_DISTANCE - 1);
             if (distance < MAX_DISTANCE) {
                 return Optional.of(release);
             }
         }
         return Optional.empty();
     }
+
+    private static ReleaseCandidateIndex getCandidateIndex(BeatportReleases releases) {
+        try {
+            return candidateIndexes.get(releases, () -> new ReleaseCandidateIndex(releases.getReleases()));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class BeatportSearcherPool implements AutoCloseable {
+    private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.beatport.BeatportSearcherPool");
+    private static final int POLL_MS = 100;
+
+    private final int size;
+    private final Supplier<BeatportSearcher> factory;
+    private final BlockingQueue<BeatportSearcher> idle = new LinkedBlockingQueue<>();
+    private final AtomicInteger created = new AtomicInteger();
+    private volatile boolean closed;
+
+    BeatportSearcherPool(int size, Supplier<BeatportSearcher> factory) {
+        this.size = size;
+        this.factory = factory;
+    }
+
+    BeatportSearcher borrow() throws InterruptedException {
+        while (true) {
+            BeatportSearcher searcher = idle.poll();
+            if (searcher != null) {
+                return searcher;
+            }
+            int current = created.get();
+            if (current < size && created.compareAndSet(current, current + 1)) {
+                return create();
+            }
+            searcher = idle.poll(POLL_MS, MILLISECONDS);
+            if (searcher != null) {
+                return searcher;
+            }
+        }
+    }
+
+    private BeatportSearcher create() {
+        try {
+            log.info("Create Beatport search session");
+            return factory.get();
+        } catch (RuntimeException e) {
+            created.decrementAndGet();
+            throw e;
+        }
+    }
+
+    void release(BeatportSearcher searcher) {
+        if (closed) {
+            searcher.close();
+        } else {
+            idle.offer(searcher);
+        }
+    }
+
+    void invalidate(BeatportSearcher searcher) {
+        log.info("Discard Beatport search session");
+        created.decrementAndGet();
+        searcher.close();
+    }
+
+    int getCreatedCount() {
+        return created.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        BeatportSearcher searcher;
+        while ((searcher = idle.poll()) != null) {
+            searcher.close();
+        }
+    }
+}
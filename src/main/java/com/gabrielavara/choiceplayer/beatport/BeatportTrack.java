@@ -5,9 +5,11 @@ import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
 
 @Data
 @EqualsAndHashCode
+@NoArgsConstructor
 @AllArgsConstructor
 class BeatportTrack implements BeatportSearchOutput, BeatportSearchInput {
     private String trackNumber;
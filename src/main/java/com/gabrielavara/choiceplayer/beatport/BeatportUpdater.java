@@ -1,24 +1,47 @@
 package com.gabrielavara.choiceplayer.beatport;
 
+import com.gabrielavara.choiceplayer.ChoicePlayerApplication;
 import com.gabrielavara.choiceplayer.dto.Mp3;
 import com.gabrielavara.choiceplayer.messages.SnackBarMessage;
 import com.gabrielavara.choiceplayer.messenger.Messenger;
+import com.gabrielavara.choiceplayer.settings.BeatportClientType;
+import com.gabrielavara.choiceplayer.settings.Settings;
 import com.gabrielavara.choiceplayer.util.TimeFormatter;
 import com.gabrielavara.choiceplayer.views.PlaylistItemView;
 import com.google.common.base.Joiner;
 import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 import org.apache.commons.io.IOUtils;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.WebDriverException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import static com.gabrielavara.choiceplayer.Constants.BEATPORT_CONNECT_TIMEOUT_MS;
+import static com.gabrielavara.choiceplayer.Constants.BEATPORT_DOWNLOAD_THREADS;
+import static com.gabrielavara.choiceplayer.Constants.BEATPORT_MAX_ATTEMPTS;
+import static com.gabrielavara.choiceplayer.Constants.BEATPORT_PROGRESS_INTERVAL;
+import static com.gabrielavara.choiceplayer.Constants.BEATPORT_READ_TIMEOUT_MS;
+import static com.gabrielavara.choiceplayer.Constants.BEATPORT_RETRY_BACKOFF_MS;
+import static com.gabrielavara.choiceplayer.Constants.BEATPORT_STAGE_QUEUE_CAPACITY;
+import static com.gabrielavara.choiceplayer.Constants.BEATPORT_TAG_WRITER_THREADS;
 import static com.gabrielavara.choiceplayer.Constants.BEATPORT_UPDATE_FINISHED;
 import static java.util.Comparator.comparingInt;
 import static java.util.stream.Collectors.toList;
@@ -30,7 +53,6 @@ public class BeatportUpdater {
     private ObservableList<PlaylistItemView> playlistItems;
     private Task<Void> updaterTask;
     private Thread thread;
-    private BeatportSearcher beatportSearcher = new BeatportSearcher();
 
     public BeatportUpdater(ObservableList<PlaylistItemView> playlistItems) {
         this.playlistItems = playlistItems;
@@ -53,33 +75,137 @@ public class BeatportUpdater {
     private Task<Void> createUpdaterTask() {
         return new Task<Void>() {
             @Override
-            protected Void call() {
-                playlistItems.forEach(pi -> {
-                    try {
-                        log.info("Index on playlist: {}", pi.getIndex());
+            protected Void call() throws InterruptedException {
+                Settings settings = ChoicePlayerApplication.getSettings();
+                int sessions = Math.max(1, settings.getBeatportSessions());
+                HostRateLimiter rateLimiter = new HostRateLimiter(settings.getBeatportRequestsPerSecond());
+                List<PlaylistItemView> items = new ArrayList<>(playlistItems);
+                BeatportProgress progress = new BeatportProgress(items.size());
+                ThreadPoolExecutor searchExecutor = createStageExecutor("Beatport search thread", sessions, BEATPORT_STAGE_QUEUE_CAPACITY);
+                ThreadPoolExecutor downloadExecutor = createStageExecutor("Beatport download thread", BEATPORT_DOWNLOAD_THREADS, BEATPORT_STAGE_QUEUE_CAPACITY);
+                ThreadPoolExecutor tagWriterExecutor = createStageExecutor("Beatport tag writer thread", BEATPORT_TAG_WRITER_THREADS, BEATPORT_STAGE_QUEUE_CAPACITY);
+                BeatportLookupCache cache = BeatportLookupCache.getDefault();
+                try (BeatportSearcherPool pool = new BeatportSearcherPool(sessions, () -> new BeatportSearcher(createClient(settings.getBeatportClient(), rateLimiter, cache)))) {
+                    List<CompletableFuture<Void>> futures = new ArrayList<>(items.size());
+                    for (PlaylistItemView pi : items) {
                         Mp3 mp3 = pi.getMp3();
-                        if (mp3.shouldSearchForInfo()) {
-                            update(mp3);
-                        }
-                    } catch (Exception e) {
-                        log.error("Exception occurred during Beatport search", e);
+                        futures.add(CompletableFuture.supplyAsync(() -> update(pi, pool), searchExecutor)
+                                .thenApplyAsync(album -> album.flatMap(a -> downloadAlbumArt(a, rateLimiter)), downloadExecutor)
+                                .thenAcceptAsync(albumArt -> albumArt.ifPresent(mp3::setAlbumArtAndSaveTags), tagWriterExecutor)
+                                .whenComplete((v, e) -> completed(progress)));
                     }
-                });
+                    for (CompletableFuture<Void> future : futures) {
+                        waitFor(future);
+                    }
+                } finally {
+                    searchExecutor.shutdownNow();
+                    downloadExecutor.shutdownNow();
+                    tagWriterExecutor.shutdownNow();
+                    cache.save();
+                }
                 Messenger.send(new SnackBarMessage(BEATPORT_UPDATE_FINISHED));
                 return null;
             }
         };
     }
 
-    private void update(Mp3 mp3) {
+    static BeatportClient createClient(BeatportClientType type, HostRateLimiter rateLimiter, BeatportLookupCache cache) {
+        BeatportClient client = type == BeatportClientType.CHROME ? new ChromeBeatportClient(rateLimiter) : new HttpBeatportClient(rateLimiter);
+        return new CachingBeatportClient(client, cache);
+    }
+
+    static ThreadPoolExecutor createStageExecutor(String name, int threads, int queueCapacity) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), r -> {
+            Thread t = new Thread(r);
+            t.setName(name + " " + t.getId());
+            t.setDaemon(true);
+            return t;
+        }, BeatportUpdater::waitForQueue);
+    }
+
+    private static void waitForQueue(Runnable runnable, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Beatport stage is shut down");
+        }
+        try {
+            executor.getQueue().put(runnable);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the Beatport stage queue", e);
+        }
+    }
+
+    private static void waitFor(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            log.error("Exception occurred during Beatport update", e.getCause());
+        }
+    }
+
+    private static void completed(BeatportProgress progress) {
+        if (progress.complete() % BEATPORT_PROGRESS_INTERVAL == 0) {
+            Messenger.send(progress.toSnackBarMessage(System.nanoTime()));
+        }
+    }
+
+    private Optional<BeatportAlbum> update(PlaylistItemView pi, BeatportSearcherPool pool) {
+        try {
+            log.info("Index on playlist: {}", pi.getIndex());
+            Mp3 mp3 = pi.getMp3();
+            if (mp3.shouldSearchForInfo()) {
+                return update(mp3, pool);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Exception occurred during Beatport search", e);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<BeatportAlbum> update(Mp3 mp3, BeatportSearcherPool pool) throws InterruptedException {
         log.info("Search for: {}", mp3);
-        Optional<BeatportAlbum> beatportAlbum = beatportSearcher.search(mp3);
-        beatportAlbum.ifPresent(album -> {
+        Optional<BeatportAlbum> beatportAlbum = search(mp3, pool);
+        return beatportAlbum.flatMap(album -> {
             Optional<BeatportTrack> track = getBestTrack(mp3, album);
             track.ifPresent(t -> update(mp3, t, album));
+            return track.map(t -> album);
         });
     }
 
+    private Optional<BeatportAlbum> search(Mp3 mp3, BeatportSearcherPool pool) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            BeatportSearcher searcher = pool.borrow();
+            boolean healthy = true;
+            try {
+                return searcher.search(mp3);
+            } catch (NotFoundException e) {
+                throw e;
+            } catch (WebDriverException | UncheckedIOException e) {
+                if (e.getCause() instanceof FileNotFoundException) {
+                    throw e;
+                }
+                healthy = false;
+                if (attempt >= BEATPORT_MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Beatport search failed (attempt {}): {}", attempt, e.getMessage());
+            } finally {
+                if (healthy) {
+                    pool.release(searcher);
+                } else {
+                    pool.invalidate(searcher);
+                }
+            }
+            Thread.sleep(getBackoff(attempt));
+        }
+    }
+
+    static long getBackoff(int attempt) {
+        return BEATPORT_RETRY_BACKOFF_MS << (attempt - 1);
+    }
+
     private Optional<BeatportTrack> getBestTrack(Mp3 mp3, BeatportAlbum album) {
         List<Integer> distances = getDistances(mp3, album);
         Optional<Integer> minDistance = distances.stream().min(comparingInt(i -> i));
@@ -132,7 +258,6 @@ public class BeatportUpdater {
         log.info("Genre: {}", genre);
         log.info("Comment: {}", comment);
         log.info("BPM: {}\n", track.getBpm());
-        setAlbumArt(mp3, album);
     }
 
     static String getTitle(BeatportTrack track) {
@@ -149,36 +274,30 @@ public class BeatportUpdater {
     }
 
     private static String getWithoutArtist(String title, int i) {
-        String withoutArtist = title.substring(0, i - 1);
-        for (Pattern p : RegexPattern.getAll()) {
-            String pattern = p.pattern();
-            pattern = pattern.substring(0, pattern.length() - 1);
-            withoutArtist = withoutArtist.replaceAll(pattern + "$", "");
-        }
-        return withoutArtist;
+        return ArtistNormalizer.removeTrailingSeparators(title.substring(0, i - 1));
     }
 
-    private void setAlbumArt(Mp3 mp3, BeatportAlbum album) {
-        try (InputStream is = new URL(album.getAlbumArtUrl()).openStream()) {
-            byte[] imageBytes = IOUtils.toByteArray(is);
-            mp3.setAlbumArtAndSaveTags(imageBytes);
+    private static Optional<byte[]> downloadAlbumArt(BeatportAlbum album, HostRateLimiter rateLimiter) {
+        if (album.getAlbumArtUrl() == null || album.getAlbumArtUrl().isEmpty()) {
+            log.info("No album art for {}", album.getTitle());
+            return Optional.empty();
+        }
+        rateLimiter.acquire(album.getAlbumArtUrl());
+        try {
+            URLConnection connection = new URL(album.getAlbumArtUrl()).openConnection();
+            connection.setConnectTimeout(BEATPORT_CONNECT_TIMEOUT_MS);
+            connection.setReadTimeout(BEATPORT_READ_TIMEOUT_MS);
+            try (InputStream is = connection.getInputStream()) {
+                return Optional.of(IOUtils.toByteArray(is));
+            }
         } catch (IOException e) {
             log.error("Could not load album art");
+            return Optional.empty();
         }
     }
 
     private String getArtist(Mp3 mp3, BeatportTrack track) {
-        String artist = mp3.getArtist();
-        for (RegexPattern regexPattern : RegexPattern.values()) {
-            for (Pattern pattern : regexPattern.getPatterns()) {
-                if (regexPattern == RegexPattern.COMMA && track.getArtists().size() == 2) {
-                    artist = pattern.matcher(artist).replaceAll(" & ");
-                } else {
-                    artist = pattern.matcher(artist).replaceAll(regexPattern.getReplaceWith());
-                }
-            }
-        }
-        return artist;
+        return ArtistNormalizer.normalize(mp3.getArtist(), track.getArtists().size() == 2);
     }
 
     private String getTrackString(int num) {
@@ -0,0 +1,66 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import static com.gabrielavara.choiceplayer.beatport.BeatportParser.BEATPORT_COM;
+
+import java.io.FileNotFoundException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gabrielavara.choiceplayer.beatport.BeatportLookupCache.CacheEntry;
+import com.gabrielavara.choiceplayer.dto.Mp3;
+
+class CachingBeatportClient implements BeatportClient {
+    private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.beatport.CachingBeatportClient");
+
+    private final BeatportClient client;
+    private final BeatportLookupCache cache;
+
+    CachingBeatportClient(BeatportClient client, BeatportLookupCache cache) {
+        this.client = client;
+        this.cache = cache;
+    }
+
+    @Override
+    public BeatportReleases searchReleases(Mp3 mp3) {
+        String url = BeatportSearchResultParser.getSearchUrl(BEATPORT_COM, mp3);
+        Optional<CacheEntry> entry = cache.get(url);
+        if (entry.isPresent() && entry.get().getReleases() != null) {
+            log.info("Releases found in cache: {}", url);
+            return entry.get().getReleases();
+        }
+        BeatportReleases releases = client.searchReleases(mp3);
+        cache.putReleases(url, releases);
+        return releases;
+    }
+
+    @Override
+    public BeatportAlbum getAlbum(BeatportRelease release) {
+        String url = release.getLink();
+        Optional<CacheEntry> entry = cache.get(url);
+        if (entry.isPresent()) {
+            log.info("Album found in cache: {}", url);
+            if (!entry.get().isFound()) {
+                throw new UncheckedIOException(new FileNotFoundException(url));
+            }
+            return entry.get().getAlbum();
+        }
+        try {
+            BeatportAlbum album = client.getAlbum(release);
+            cache.putAlbum(url, album);
+            return album;
+        } catch (UncheckedIOException e) {
+            if (e.getCause() instanceof FileNotFoundException) {
+                cache.putNotFound(url);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
@@ -0,0 +1,55 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+
+class ChromeBeatportClient implements BeatportClient {
+    private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.beatport.ChromeBeatportClient");
+
+    private final WebDriver driver;
+    private final HostRateLimiter rateLimiter;
+
+    static {
+        System.setProperty("webdriver.chrome.driver", "src/main/resources/chromedriver-2.35.exe");
+    }
+
+    ChromeBeatportClient(HostRateLimiter rateLimiter) {
+        this(createDriver(), rateLimiter);
+    }
+
+    ChromeBeatportClient(WebDriver driver, HostRateLimiter rateLimiter) {
+        this.driver = driver;
+        this.rateLimiter = rateLimiter;
+    }
+
+    private static WebDriver createDriver() {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("headless");
+        options.addArguments("window-size=1200x600");
+        return new ChromeDriver(options);
+    }
+
+    @Override
+    public BeatportReleases searchReleases(Mp3 mp3) {
+        return new BeatportSearchResultParser(driver, rateLimiter).parse(mp3);
+    }
+
+    @Override
+    public BeatportAlbum getAlbum(BeatportRelease release) {
+        return new BeatportAlbumParser(driver, rateLimiter).parse(release);
+    }
+
+    @Override
+    public void close() {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            log.error("Could not close web driver: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+class HostRateLimiter {
+    private static final String UNKNOWN_HOST = "";
+
+    private final double permitsPerSecond;
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+    HostRateLimiter(double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    static HostRateLimiter unlimited() {
+        return new HostRateLimiter(0);
+    }
+
+    void acquire(String url) {
+        if (permitsPerSecond <= 0) {
+            return;
+        }
+        rateLimiters.computeIfAbsent(getHost(url), host -> RateLimiter.create(permitsPerSecond)).acquire();
+    }
+
+    static String getHost(String url) {
+        if (url == null) {
+            return UNKNOWN_HOST;
+        }
+        try {
+            return new URL(url).getHost();
+        } catch (MalformedURLException e) {
+            return UNKNOWN_HOST;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import static com.gabrielavara.choiceplayer.Constants.BEATPORT_CONNECT_TIMEOUT_MS;
+import static com.gabrielavara.choiceplayer.Constants.BEATPORT_READ_TIMEOUT_MS;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+
+class HttpBeatportClient implements BeatportClient {
+    private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.beatport.HttpBeatportClient");
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/64.0 Safari/537.36";
+
+    private final String baseUrl;
+    private final HostRateLimiter rateLimiter;
+
+    HttpBeatportClient(HostRateLimiter rateLimiter) {
+        this(BeatportParser.BEATPORT_COM, rateLimiter);
+    }
+
+    HttpBeatportClient(String baseUrl, HostRateLimiter rateLimiter) {
+        this.baseUrl = baseUrl;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public BeatportReleases searchReleases(Mp3 mp3) {
+        String url = BeatportSearchResultParser.getSearchUrl(baseUrl, mp3);
+        BeatportReleases releases = BeatportHtmlParser.parseReleases(fetch(url));
+        log.info("Releases found: {}", releases.getReleases());
+        return releases;
+    }
+
+    @Override
+    public BeatportAlbum getAlbum(BeatportRelease release) {
+        log.info("Get album: {}", release);
+        BeatportAlbum album = BeatportHtmlParser.parseAlbum(fetch(release.getLink()));
+        log.info("Album parsed: {}", album);
+        return album;
+    }
+
+    @Override
+    public void close() {
+        // nothing to release, every request uses its own connection
+    }
+
+    Document fetch(String url) {
+        rateLimiter.acquire(url);
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setConnectTimeout(BEATPORT_CONNECT_TIMEOUT_MS);
+            connection.setReadTimeout(BEATPORT_READ_TIMEOUT_MS);
+            connection.setRequestProperty("User-Agent", USER_AGENT);
+            connection.setRequestProperty("Accept", "text/html");
+            try (InputStream inputStream = connection.getInputStream()) {
+                return Jsoup.parse(inputStream, null, url);
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not fetch " + url, e);
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.gabrielavara.choiceplayer.beatport;
 
 public class LevenshteinDistance {
+    private static final int MAX_BIT_PARALLEL_LENGTH = Long.SIZE;
+    private static final int PATTERN_TABLE_SIZE = 256;
+
+    private static final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
     private LevenshteinDistance() {
     }
 
@@ -8,12 +13,27 @@ public class LevenshteinDistance {
         source = source.toLowerCase();
         target = target.toLowerCase();
 
+        if (source.length() > target.length()) {
+            String temp = target;
+            target = source;
+            source = temp;
+        }
+
         if (source.isEmpty()) {
-            return target.isEmpty() ? 0 : target.length();
+            return target.length();
         }
-        if (target.isEmpty()) {
-            return source.length();
+        if (source.length() <= MAX_BIT_PARALLEL_LENGTH) {
+            return calculateBitParallel(source, target);
         }
+        return calculateBanded(source, target, target.length());
+    }
+
+    /**
+     * Returns the distance if it is at most {@code maxDistance}, otherwise {@code maxDistance + 1}.
+     */
+    public static int calculate(String source, String target, int maxDistance) {
+        source = source.toLowerCase();
+        target = target.toLowerCase();
 
         if (source.length() > target.length()) {
             String temp = target;
@@ -21,26 +41,120 @@ public class LevenshteinDistance {
             source = temp;
         }
 
-        int m = target.length();
+        if (target.length() - source.length() > maxDistance) {
+            return maxDistance + 1;
+        }
+        if (source.isEmpty()) {
+            return target.length();
+        }
+        return calculateBanded(source, target, maxDistance);
+    }
+
+    private static int calculateBitParallel(String pattern, String text) {
+        int m = pattern.length();
+        long[] peq = scratch.get().peq;
+        for (int i = 0; i < m; i++) {
+            char c = pattern.charAt(i);
+            if (c < PATTERN_TABLE_SIZE) {
+                peq[c] |= 1L << i;
+            }
+        }
+
+        long last = 1L << (m - 1);
+        long pv = -1L;
+        long mv = 0L;
+        int score = m;
+        for (int j = 0; j < text.length(); j++) {
+            char c = text.charAt(j);
+            long eq = c < PATTERN_TABLE_SIZE ? peq[c] : getPatternMask(pattern, c);
+            long xv = eq | mv;
+            long xh = (((eq & pv) + pv) ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+            if ((ph & last) != 0) {
+                score++;
+            } else if ((mh & last) != 0) {
+                score--;
+            }
+            ph = (ph << 1) | 1L;
+            mh <<= 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+        }
+
+        for (int i = 0; i < m; i++) {
+            char c = pattern.charAt(i);
+            if (c < PATTERN_TABLE_SIZE) {
+                peq[c] = 0L;
+            }
+        }
+        return score;
+    }
+
+    private static long getPatternMask(String pattern, char c) {
+        long mask = 0L;
+        for (int i = 0; i < pattern.length(); i++) {
+            if (pattern.charAt(i) == c) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    private static int calculateBanded(String source, String target, int maxDistance) {
         int n = source.length();
-        int[][] distance = new int[2][m + 1];
-        for (int j = 1; j <= m; j++) {
-            distance[0][j] = j;
+        int m = target.length();
+        int outside = maxDistance + 1;
+
+        Scratch buffers = scratch.get();
+        int[] previous = buffers.getPreviousRow(m + 1);
+        int[] current = buffers.getCurrentRow(m + 1);
+        for (int j = 0; j <= Math.min(m, outside); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(m, i + maxDistance);
+            current[from - 1] = from == 1 ? i : outside;
+            int rowMinimum = current[from - 1];
+            char sourceChar = source.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int cost = target.charAt(j - 1) == sourceChar ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                current[j] = Math.min(value, outside);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < m) {
+                current[to + 1] = outside;
+            }
+            if (rowMinimum > maxDistance) {
+                return outside;
+            }
+            int[] temp = previous;
+            previous = current;
+            current = temp;
+        }
+        return Math.min(previous[m], outside);
+    }
+
+    private static class Scratch {
+        private final long[] peq = new long[PATTERN_TABLE_SIZE];
+        private int[] previousRow = new int[0];
+        private int[] currentRow = new int[0];
+
+        private int[] getPreviousRow(int length) {
+            if (previousRow.length < length) {
+                previousRow = new int[length];
+            }
+            return previousRow;
         }
 
-        int currentRow = 0;
-        for (int i = 1; i <= n; ++i) {
-            currentRow = i & 1;
-            distance[currentRow][0] = i;
-            int previousRow = currentRow ^ 1;
-            for (int j = 1; j <= m; j++) {
-                int cost = (target.charAt(j - 1) == source.charAt(i - 1) ? 0 : 1);
-                distance[currentRow][j] = Math.min(Math.min(
-                        distance[previousRow][j] + 1,
-                        distance[currentRow][j - 1] + 1),
-                        distance[previousRow][j - 1] + cost);
+        private int[] getCurrentRow(int length) {
+            if (currentRow.length < length) {
+                currentRow = new int[length];
             }
+            return currentRow;
         }
-        return distance[currentRow][m];
     }
 }
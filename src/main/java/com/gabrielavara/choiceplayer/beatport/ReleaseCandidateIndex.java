@@ -0,0 +1,69 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class ReleaseCandidateIndex {
+    private final List<BeatportRelease> releases;
+    private final int[] lengths;
+    private final Map<Character, List<Posting>> postings = new HashMap<>();
+
+    ReleaseCandidateIndex(List<BeatportRelease> releases) {
+        this.releases = releases;
+        this.lengths = new int[releases.size()];
+        for (int i = 0; i < releases.size(); i++) {
+            String album = releases.get(i).getAlbum().toLowerCase();
+            lengths[i] = album.length();
+            for (Map.Entry<Character, Integer> character : countCharacters(album).entrySet()) {
+                postings.computeIfAbsent(character.getKey(), k -> new ArrayList<>()).add(new Posting(i, character.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Returns the releases from {@code fromIndex} on, in their original order, that can be within {@code maxDistance}
+     * of the album. An edit removes at most one character from the characters two strings share, so strings within
+     * distance k share at least max(|a|, |b|) - k of them, and the rest are skipped without computing the distance.
+     * Unlike a q-gram bound, this still rejects unrelated titles at the distances the searcher uses.
+     */
+    List<BeatportRelease> getCandidates(String album, int maxDistance, int fromIndex) {
+        String query = album.toLowerCase();
+        int[] common = new int[releases.size()];
+        for (Map.Entry<Character, Integer> character : countCharacters(query).entrySet()) {
+            for (Posting posting : postings.getOrDefault(character.getKey(), Collections.emptyList())) {
+                common[posting.index] += Math.min(character.getValue(), posting.count);
+            }
+        }
+
+        List<BeatportRelease> candidates = new ArrayList<>();
+        for (int i = fromIndex; i < releases.size(); i++) {
+            int longer = Math.max(query.length(), lengths[i]);
+            int shorter = Math.min(query.length(), lengths[i]);
+            if (longer - shorter <= maxDistance && common[i] >= longer - maxDistance) {
+                candidates.add(releases.get(i));
+            }
+        }
+        return candidates;
+    }
+
+    private static Map<Character, Integer> countCharacters(String s) {
+        Map<Character, Integer> characters = new HashMap<>();
+        for (int i = 0; i < s.length(); i++) {
+            characters.merge(s.charAt(i), 1, Integer::sum);
+        }
+        return characters;
+    }
+
+    private static class Posting {
+        private final int index;
+        private final int count;
+
+        private Posting(int index, int count) {
+            this.index = index;
+            this.count = count;
+        }
+    }
+}
@@ -30,6 +30,9 @@ import com.gabrielavara.choiceplayer.messages.SnackBarMessage;
 import com.gabrielavara.choiceplayer.messages.TagsSavedMessage;
 import com.gabrielavara.choiceplayer.messages.ThemeChangedMessage;
 import com.gabrielavara.choiceplayer.messenger.Messenger;
+import com.gabrielavara.choiceplayer.player.Crossfader;
+import com.gabrielavara.choiceplayer.player.MediaPlayerLifecycleManager;
+import com.gabrielavara.choiceplayer.player.TrackPrefetcher;
 import com.gabrielavara.choiceplayer.playlist.Playlist;
 import com.gabrielavara.choiceplayer.playlist.PlaylistAnimator;
 import com.gabrielavara.choiceplayer.playlist.PlaylistSelectionChangedListener;
@@ -38,6 +41,7 @@ import com.gabrielavara.choiceplayer.util.CssModifier;
 import com.gabrielavara.choiceplayer.util.GlobalKeyListener;
 import com.gabrielavara.choiceplayer.util.MediaUrl;
 import com.gabrielavara.choiceplayer.util.Opinion;
+import com.gabrielavara.choiceplayer.util.RenderVariantPipeline;
 import com.gabrielavara.choiceplayer.util.TimeFormatter;
 import com.gabrielavara.choiceplayer.util.TimeSliderConverter;
 import com.gabrielavara.choiceplayer.views.ButtonBox;
@@ -65,7 +69,6 @@ import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Label;
 import javafx.scene.control.MultipleSelectionModel;
-import javafx.scene.effect.BoxBlur;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Background;
@@ -77,28 +80,29 @@ import javafx.scene.media.MediaPlayer;
 import javafx.scene.paint.Color;
 import javafx.util.Duration;
 import lombok.Getter;
-import org.awaitility.Awaitility;
-import org.awaitility.core.ConditionTimeoutException;
 import org.jnativehook.GlobalScreen;
 import org.jnativehook.NativeHookException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.net.URL;
 import java.text.MessageFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.ResourceBundle;
-import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 
 import static com.gabrielavara.choiceplayer.Constants.ANIMATION_DURATION;
 import static com.gabrielavara.choiceplayer.Constants.BACKGROUND_IMAGE_OPACITY;
-import static com.gabrielavara.choiceplayer.Constants.DISPOSE_MAX_WAIT_MS;
-import static com.gabrielavara.choiceplayer.Constants.DISPOSE_WAIT_MS;
 import static com.gabrielavara.choiceplayer.Constants.FILES_LOADED_FROM_DISK;
+import static com.gabrielavara.choiceplayer.Constants.MESSENGER_WINDOW_MS;
 import static com.gabrielavara.choiceplayer.Constants.MOVED_TO_LIKED;
 import static com.gabrielavara.choiceplayer.Constants.MOVED_TO_TRASH;
+import static com.gabrielavara.choiceplayer.Constants.MULTIPLE_MOVED_TO_LIKED;
+import static com.gabrielavara.choiceplayer.Constants.MULTIPLE_MOVED_TO_TRASH;
 import static com.gabrielavara.choiceplayer.Constants.SEEK_SECONDS;
 import static com.gabrielavara.choiceplayer.Constants.SHORT_ANIMATION_DURATION;
 import static com.gabrielavara.choiceplayer.Constants.UPDATE_TAGS_FROM_BEATPORT;
@@ -108,16 +112,16 @@ import static com.gabrielavara.choiceplayer.controls.bigalbumart.Direction.BACKW
 import static com.gabrielavara.choiceplayer.controls.bigalbumart.Direction.FORWARD;
 import static com.gabrielavara.choiceplayer.controls.playlistitem.PlaylistItemState.DESELECTED;
 import static com.gabrielavara.choiceplayer.controls.playlistitem.PlaylistItemState.SELECTED;
+import static com.gabrielavara.choiceplayer.messenger.DispatchPolicy.FX_THREAD;
 import static com.gabrielavara.choiceplayer.util.Opinion.DISLIKE;
 import static com.gabrielavara.choiceplayer.util.Opinion.LIKE;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
-import static javafx.scene.media.MediaPlayer.Status.DISPOSED;
+import static java.util.stream.Collectors.toList;
 import static javafx.scene.media.MediaPlayer.Status.HALTED;
 import static javafx.scene.media.MediaPlayer.Status.PAUSED;
+import static javafx.scene.media.MediaPlayer.Status.PLAYING;
 import static javafx.scene.media.MediaPlayer.Status.READY;
 import static javafx.scene.media.MediaPlayer.Status.STOPPED;
 import static javafx.scene.media.MediaPlayer.Status.UNKNOWN;
-import static org.hamcrest.CoreMatchers.equalTo;
 
 @FXMLController
 public class PlayerController implements Initializable {
@@ -171,6 +175,10 @@ public class PlayerController implements Initializable {
     private Playlist playlist;
 
     private MediaPlayer mediaPlayer;
+    private MediaPlayerLifecycleManager mediaPlayerLifecycleManager = new MediaPlayerLifecycleManager();
+    private TrackPrefetcher trackPrefetcher = new TrackPrefetcher(mediaPlayerLifecycleManager);
+    private Crossfader crossfader = new Crossfader(mediaPlayerLifecycleManager);
+    private boolean crossfadeStarted;
     private Duration duration;
     private TimeSliderConverter timeSliderConverter = new TimeSliderConverter();
     private InvalidationListener currentTimePropertyListener = ov -> updateValues();
@@ -235,13 +243,21 @@ public class PlayerController implements Initializable {
         Messenger.register(SelectionChangedMessage.class, this::selectionChanged);
         Messenger.register(SettingsClosedMessage.class, this::settingsClosed);
         Messenger.register(ThemeChangedMessage.class, this::accessColorChanged);
-        Messenger.register(FileMovedMessage.class, this::fileMoved);
+        Messenger.registerBatch(FileMovedMessage.class, MESSENGER_WINDOW_MS, this::filesMoved, FX_THREAD);
         Messenger.register(PlaylistLoadedMessage.class, this::playlistLoaded);
-        Messenger.register(BeginToSaveTagsMessage.class, this::beginToSaveTags);
-        Messenger.register(TagsSavedMessage.class, this::tagsSaved);
-        Messenger.register(ActionMessage.class, this::actionHappened);
-        Messenger.register(SnackBarMessage.class, this::snackBarMessageReceived);
-        Messenger.register(AnimateBackgroundChangeMessage.class, this::animateBackgroundChange);
+        Messenger.register(BeginToSaveTagsMessage.class, this::beginToSaveTags, FX_THREAD);
+        Messenger.register(TagsSavedMessage.class, this::tagsSaved, FX_THREAD);
+        Messenger.register(ActionMessage.class, this::actionHappened, FX_THREAD);
+        Messenger.registerBatch(SnackBarMessage.class, MESSENGER_WINDOW_MS, this::snackBarMessagesReceived, FX_THREAD);
+        Messenger.register(AnimateBackgroundChangeMessage.class, this::animateBackgroundChange, FX_THREAD);
+        Messenger.coalesce(ActionMessage.class, MESSENGER_WINDOW_MS, (previous, latest) -> latest);
+        Messenger.coalesce(AnimateBackgroundChangeMessage.class, MESSENGER_WINDOW_MS, (previous, latest) -> latest);
+    }
+
+    private void snackBarMessagesReceived(List<SnackBarMessage> messages) {
+        Map<String, SnackBarMessage> latestMessages = new LinkedHashMap<>();
+        messages.forEach(m -> latestMessages.put(m.getResourceBundleMessageKey(), m));
+        latestMessages.values().forEach(this::snackBarMessageReceived);
     }
 
     private void snackBarMessageReceived(SnackBarMessage message) {
@@ -262,16 +278,21 @@ public class PlayerController implements Initializable {
     }
 
     private void tagsSaved(TagsSavedMessage m) {
-        loadMediaPlayer(m.getMp3());
+        loadMediaPlayer(m.getMp3(), 0);
         seek(currentTimeWhenTagsSaved);
     }
 
     @SuppressWarnings({"squid:S1172", "unused"})
     private void beginToSaveTags(BeginToSaveTagsMessage m) {
-        if (mediaPlayer != null) {
-            currentTimeWhenTagsSaved = mediaPlayer.getCurrentTime();
+        CompletableFuture<Void> prefetchedReleased = trackPrefetcher.discard(m.getMp3());
+        CompletableFuture<Void> currentReleased = CompletableFuture.completedFuture(null);
+        if (m.getMp3().isCurrentlyPlaying()) {
+            if (mediaPlayer != null) {
+                currentTimeWhenTagsSaved = mediaPlayer.getCurrentTime();
+            }
+            currentReleased = disposeMediaPlayer();
         }
-        disposeMediaPlayer();
+        CompletableFuture.allOf(prefetchedReleased, currentReleased).thenRun(() -> m.getMediaReleased().complete(null));
     }
 
     @SuppressWarnings({"squid:S1172", "unused"})
@@ -281,16 +302,26 @@ public class PlayerController implements Initializable {
         beatportUpdater.update();
     }
 
-    private void fileMoved(FileMovedMessage m) {
-        if (m.getOpinion().equals(LIKE)) {
-            likedAnimatedBadge.increaseCount();
-            Messenger.send(new SnackBarMessage(MOVED_TO_LIKED, new Object[]{m.getTitle()}));
-        } else {
-            dislikedAnimatedBadge.increaseCount();
-            Messenger.send(new SnackBarMessage(MOVED_TO_TRASH, new Object[]{m.getTitle()}));
+    private void filesMoved(List<FileMovedMessage> messages) {
+        List<FileMovedMessage> liked = messages.stream().filter(m -> m.getOpinion().equals(LIKE)).collect(toList());
+        List<FileMovedMessage> disliked = messages.stream().filter(m -> !m.getOpinion().equals(LIKE)).collect(toList());
+        if (!liked.isEmpty()) {
+            likedAnimatedBadge.increaseCount(liked.size());
+            Messenger.send(getFilesMovedMessage(liked, MOVED_TO_LIKED, MULTIPLE_MOVED_TO_LIKED));
+        }
+        if (!disliked.isEmpty()) {
+            dislikedAnimatedBadge.increaseCount(disliked.size());
+            Messenger.send(getFilesMovedMessage(disliked, MOVED_TO_TRASH, MULTIPLE_MOVED_TO_TRASH));
         }
     }
 
+    private SnackBarMessage getFilesMovedMessage(List<FileMovedMessage> messages, String key, String multipleKey) {
+        if (messages.size() == 1) {
+            return new SnackBarMessage(key, new Object[]{messages.get(0).getTitle()});
+        }
+        return new SnackBarMessage(multipleKey, new Object[]{messages.size()});
+    }
+
     @SuppressWarnings({"squid:S1172", "unused"})
     private void accessColorChanged(ThemeChangedMessage m) {
         CssModifier.modify(rootContainer);
@@ -389,51 +420,53 @@ public class PlayerController implements Initializable {
     }
 
     private void play(Mp3 mp3) {
-        disposeMediaPlayer();
-        loadMediaPlayer(mp3);
-    }
-
-    private void loadMediaPlayer(Mp3 mp3) {
-        Optional<String> mediaUrl = MediaUrl.create(mp3);
-        mediaUrl.ifPresent(url -> {
-            mediaPlayer = new MediaPlayer(new Media(url));
-            addMediaPlayerListeners();
-            play(false, false);
-        });
-    }
-
-    @SuppressWarnings("squid:S1215")
-    private void disposeMediaPlayer() {
-        if (mediaPlayer != null) {
-            mediaPlayer.setOnReady(null);
-            mediaPlayer.setOnEndOfMedia(null);
+        int crossfadeMillis = ChoicePlayerApplication.getSettings().getCrossfadeMillis();
+        if (crossfadeMillis > 0 && mediaPlayer != null && mediaPlayer.getStatus() == PLAYING) {
             mediaPlayer.currentTimeProperty().removeListener(currentTimePropertyListener);
-            mediaPlayer.dispose();
-            waitForDispose();
-            System.gc();
+            crossfader.fadeOut(mediaPlayer, crossfadeMillis);
+            loadMediaPlayer(mp3, crossfadeMillis);
+        } else {
+            disposeMediaPlayer();
+            loadMediaPlayer(mp3, 0);
         }
     }
 
-    private void waitForDispose() {
-        try {
-            Awaitility.with().pollInterval(DISPOSE_WAIT_MS, MILLISECONDS).await()
-                    .atMost(DISPOSE_MAX_WAIT_MS, MILLISECONDS).until(getStatus(), equalTo(DISPOSED));
-        } catch (ConditionTimeoutException e) {
-            log.debug("Media player not disposed :( {}", e);
+    private void loadMediaPlayer(Mp3 mp3, int crossfadeMillis) {
+        Optional<MediaPlayer> player = trackPrefetcher.take(mp3);
+        if (!player.isPresent()) {
+            player = MediaUrl.create(mp3).map(url -> new MediaPlayer(new Media(url)));
         }
+        player.ifPresent(p -> {
+            mediaPlayer = p;
+            crossfadeStarted = false;
+            addMediaPlayerListeners();
+            if (crossfadeMillis > 0) {
+                crossfader.fadeIn(mediaPlayer, crossfadeMillis);
+            } else {
+                play(false, false);
+            }
+        });
     }
 
-    private Callable<MediaPlayer.Status> getStatus() {
-        return () -> mediaPlayer.statusProperty().get();
+    private CompletableFuture<Void> disposeMediaPlayer() {
+        if (mediaPlayer == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        mediaPlayer.currentTimeProperty().removeListener(currentTimePropertyListener);
+        return mediaPlayerLifecycleManager.retire(mediaPlayer);
     }
 
     private void addMediaPlayerListeners() {
         mediaPlayer.currentTimeProperty().addListener(currentTimePropertyListener);
 
-        mediaPlayer.setOnReady(() -> {
+        Runnable onReady = () -> {
             duration = mediaPlayer.getMedia().getDuration();
             updateValues();
-        });
+        };
+        mediaPlayer.setOnReady(onReady);
+        if (mediaPlayer.getStatus() == READY) {
+            onReady.run();
+        }
 
         mediaPlayer.setOnEndOfMedia(() -> playlistUtil.goToNextTrack());
     }
@@ -442,9 +475,24 @@ public class PlayerController implements Initializable {
         Platform.runLater(() -> {
             Duration currentTime = updateElapsedRemainingLabels();
             updateTimeSlider(currentTime);
+            prefetchNextTrack(currentTime);
+            crossfadeToNextTrack(currentTime);
         });
     }
 
+    private void crossfadeToNextTrack(Duration currentTime) {
+        if (!crossfadeStarted && Crossfader.isDue(currentTime, duration, ChoicePlayerApplication.getSettings().getCrossfadeMillis())) {
+            crossfadeStarted = true;
+            playlistUtil.goToNextTrack();
+        }
+    }
+
+    private void prefetchNextTrack(Duration currentTime) {
+        if (TrackPrefetcher.isDue(currentTime, duration, ChoicePlayerApplication.getSettings().getPrefetchSeconds())) {
+            playlistUtil.getNextPlaylistItemView().map(PlaylistItemView::getMp3).ifPresent(trackPrefetcher::prefetch);
+        }
+    }
+
     private Duration updateElapsedRemainingLabels() {
         if (duration == null) {
             return Duration.ZERO;
@@ -587,24 +635,34 @@ public class PlayerController implements Initializable {
     }
 
     private Timeline createPlayPauseVolumeTimeLine(double volume, int duration) {
-        return new Timeline(
-                new KeyFrame(Duration.ZERO, new KeyValue(mediaPlayer.volumeProperty(), mediaPlayer.getVolume())),
-                new KeyFrame(Duration.millis(duration), new KeyValue(mediaPlayer.volumeProperty(), volume)));
+        return Crossfader.createVolumeTimeLine(mediaPlayer, volume, duration);
     }
 
     private void setCurrentlyPlayingAlbumArt(Direction direction, SelectionChangedMessage message) {
-        Optional<byte[]> albumArtData = playlistUtil.getCurrentlyPlayingAlbumArt();
-        albumArt.setImage(albumArtData, direction, () -> moveFileOrChangeBackground(albumArtData, message));
+        Mp3 mp3 = message.getNewValue();
+        RenderVariantPipeline.getDefault().get(mp3).thenAccept(variants -> Platform.runLater(() -> {
+            if (mp3.isCurrentlyPlaying()) {
+                albumArt.setImage(variants.getAlbumArt(), variants.getGrayScaleAlbumArt(), direction,
+                        () -> moveFileOrChangeBackground(variants.getBackground(), message));
+            } else {
+                moveFileOrChangeBackground(Optional.empty(), message);
+            }
+        })).exceptionally(e -> {
+            log.error("Could not render album art: {}", mp3.getFilename(), e);
+            Platform.runLater(() -> moveFileOrChangeBackground(Optional.empty(), message));
+            return null;
+        });
+        RenderVariantPipeline.getDefault().prefetch(playlistUtil.getNextPlaylistItemView().map(PlaylistItemView::getMp3));
     }
 
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
-    private void moveFileOrChangeBackground(Optional<byte[]> albumArtData, SelectionChangedMessage message) {
+    private void moveFileOrChangeBackground(Optional<Image> background, SelectionChangedMessage message) {
         Optional<Opinion> opinion = message.getOpinion();
         Optional<PlaylistItemView> oldPlaylistItemView = message.getOldPlaylistItemView();
         if (opinion.isPresent() && oldPlaylistItemView.isPresent()) {
             moveFile(opinion.get(), oldPlaylistItemView.get());
         } else {
-            albumArtData.ifPresent(this::animateBackgroundImageChange);
+            background.ifPresent(this::animateBackgroundImageChange);
         }
     }
 
@@ -618,15 +676,15 @@ public class PlayerController implements Initializable {
 
     @SuppressWarnings({"squid:S1172", "unused"})
     private void animateBackgroundChange(AnimateBackgroundChangeMessage m) {
-        Optional<byte[]> albumArtData = playlistUtil.getCurrentlyPlayingAlbumArt();
-        albumArtData.ifPresent(this::animateBackgroundImageChange);
+        playlistUtil.getCurrentlyPlaying().ifPresent(mp3 -> RenderVariantPipeline.getDefault().get(mp3)
+                .thenAccept(variants -> Platform.runLater(() -> variants.getBackground().ifPresent(this::animateBackgroundImageChange))));
     }
 
-    private void animateBackgroundImageChange(byte[] data) {
+    private void animateBackgroundImageChange(Image image) {
         FadeTransition fadeOutTransition = new FadeTransition(Duration.millis(ANIMATION_DURATION), backgroundImage);
         fadeOutTransition.setToValue(0);
         fadeOutTransition.setOnFinished(e -> {
-            changeBackgroundImage(data);
+            changeBackgroundImage(image);
             FadeTransition fadeInTransition = new FadeTransition(Duration.millis(ANIMATION_DURATION), backgroundImage);
             fadeInTransition.setToValue(BACKGROUND_IMAGE_OPACITY);
             fadeInTransition.play();
@@ -634,13 +692,11 @@ public class PlayerController implements Initializable {
         fadeOutTransition.play();
     }
 
-    private void changeBackgroundImage(byte[] data) {
-        Image image = new Image(new ByteArrayInputStream(data));
+    private void changeBackgroundImage(Image image) {
         double size = Math.max(rootContainer.getHeight(), rootContainer.getWidth());
         backgroundImage.setFitWidth(size);
         backgroundImage.setFitHeight(size);
         backgroundImage.setImage(image);
-        backgroundImage.setEffect(new BoxBlur(20, 20, 3));
     }
 
     private void registerGlobalKeyListener() {
@@ -34,6 +34,10 @@ public class AnimatedBadge extends StackPane {
     }
 
     public void increaseCount() {
-        controller.increaseCount();
+        increaseCount(1);
+    }
+
+    public void increaseCount(int by) {
+        controller.increaseCount(by);
     }
 }
@@ -60,8 +60,9 @@ public class AnimatedBadgeController implements Initializable {
         });
     }
 
-    void increaseCount() {
-        badgeLabel.setText(String.valueOf(++count));
+    void increaseCount(int by) {
+        count += by;
+        badgeLabel.setText(String.valueOf(count));
         setLocationIfNeeded();
         animate();
     }
@@ -3,12 +3,12 @@ package com.gabrielavara.choiceplayer.controls.bigalbumart;
 import com.gabrielavara.choiceplayer.controls.AnimationDirection;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
+import javafx.scene.image.Image;
 import javafx.scene.layout.StackPane;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.Optional;
 
 public class BigAlbumArt extends StackPane {
     private static final String COULD_NOT_LOAD = "Could not load big album art";
@@ -33,9 +33,8 @@ public class BigAlbumArt extends StackPane {
         }
     }
 
-    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
-    public void setImage(Optional<byte[]> albumArtData, Direction direction, Runnable afterFinished) {
-        controller.setImage(albumArtData, direction, afterFinished);
+    public void setImage(Image albumArtImage, Image grayScaleAlbumArtImage, Direction direction, Runnable afterFinished) {
+        controller.setImage(albumArtImage, grayScaleAlbumArtImage, direction, afterFinished);
     }
 
     public void animatePlayPause(AnimationDirection animationDirection) {
@@ -14,7 +14,6 @@ import javafx.scene.layout.AnchorPane;
 import javafx.util.Duration;
 
 import java.net.URL;
-import java.util.Optional;
 import java.util.ResourceBundle;
 
 import static com.gabrielavara.choiceplayer.Constants.ANIMATION_DURATION;
@@ -83,11 +82,7 @@ public class BigAlbumArtController implements Initializable {
         }
     }
 
-    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
-    void setImage(Optional<byte[]> albumArtData, Direction direction, Runnable afterFinished) {
-        Image albumArtImage = ImageUtil.getAlbumArt(albumArtData, BIG_ALBUM_ART_SIZE);
-        Image grayScaleAlbumArtImage = ImageUtil.getGrayScaleAlbumArt(albumArtData, BIG_ALBUM_ART_SIZE);
-
+    void setImage(Image albumArtImage, Image grayScaleAlbumArtImage, Direction direction, Runnable afterFinished) {
         ParallelTransition outTransition = getParallelTransition(OUT, direction);
 
         outTransition.setOnFinished(e -> {
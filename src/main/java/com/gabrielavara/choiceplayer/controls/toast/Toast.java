@@ -8,7 +8,6 @@ import static com.gabrielavara.choiceplayer.views.QuadraticInterpolator.QUADRATI
 import static com.gabrielavara.choiceplayer.views.QuadraticInterpolator.QUADRATIC_EASE_OUT;
 
 import java.io.IOException;
-import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,8 +16,8 @@ import com.gabrielavara.choiceplayer.ChoicePlayerApplication;
 import com.gabrielavara.choiceplayer.controls.CustomStage;
 import com.gabrielavara.choiceplayer.controls.albumart.AlbumArt;
 import com.gabrielavara.choiceplayer.dto.Mp3;
+import com.gabrielavara.choiceplayer.util.AlbumArtCache;
 import com.gabrielavara.choiceplayer.util.CssModifier;
-import com.gabrielavara.choiceplayer.util.ImageUtil;
 
 import javafx.animation.PauseTransition;
 import javafx.animation.TranslateTransition;
@@ -81,8 +80,7 @@ public class Toast {
         artistLabel.setTextFill(ChoicePlayerApplication.getColors().getForegroundBrightColor());
         titleLabel.setTextFill(ChoicePlayerApplication.getColors().getForegroundColor());
 
-        Optional<byte[]> albumArtData = mp3.getAlbumArt();
-        Image image = ImageUtil.getAlbumArt(albumArtData, ALBUM_ART_SIZE);
+        Image image = AlbumArtCache.getAlbumArt(mp3, ALBUM_ART_SIZE);
         albumArt.setImage(image);
     }
 
@@ -5,6 +5,9 @@ import com.gabrielavara.choiceplayer.beatport.BeatportSearchInput;
 import com.gabrielavara.choiceplayer.messages.BeginToSaveTagsMessage;
 import com.gabrielavara.choiceplayer.messages.TagsSavedMessage;
 import com.gabrielavara.choiceplayer.messenger.Messenger;
+import com.gabrielavara.choiceplayer.tag.Id3TagReader;
+import com.gabrielavara.choiceplayer.tag.Id3TagWriter;
+import com.gabrielavara.choiceplayer.tag.Id3Tags;
 import com.mpatric.mp3agic.ID3v1;
 import com.mpatric.mp3agic.ID3v1Tag;
 import com.mpatric.mp3agic.ID3v2;
@@ -27,11 +30,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.attribute.BasicFileAttributeView;
-import java.nio.file.attribute.FileTime;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
+import static com.gabrielavara.choiceplayer.Constants.DISPOSE_MAX_WAIT_MS;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 @Getter
 @ToString
@@ -62,11 +67,12 @@ public class Mp3 implements BeatportSearchInput {
     private String year = EMPTY;
     @Setter
     private String album;
-    @Setter
     private String track;
     @JsonIgnore
     private int trackAsInt;
+    @Setter
     private long length;
+    @Setter
     private String filename;
     @Setter
     private boolean currentlyPlaying;
@@ -74,86 +80,92 @@ public class Mp3 implements BeatportSearchInput {
     private SimpleBooleanProperty changed = new SimpleBooleanProperty(false);
 
     public Mp3(Mp3File mp3) {
-        artist = extractArtist(mp3);
-        albumArtist = extractAlbumArtist(mp3);
-        title = extractTitle(mp3);
-        year = extractYear(mp3);
-        album = extractAlbum(mp3);
-        track = extractTrack(mp3);
+        this(mp3.getFilename(), mp3.getLengthInMilliseconds(), mp3.hasId3v2Tag() ? mp3.getId3v2Tag() : null,
+                mp3.hasId3v1Tag() ? mp3.getId3v1Tag() : null);
+    }
+
+    public Mp3(Id3Tags tags) {
+        this(tags.getFilename(), tags.getLengthInMilliseconds(), tags.getId3v2Tag(), tags.getId3v1Tag());
+    }
+
+    private Mp3(String filename, long length, ID3v2 id3v2Tag, ID3v1 id3v1Tag) {
+        artist = extractArtist(id3v2Tag, id3v1Tag);
+        albumArtist = extractAlbumArtist(id3v2Tag);
+        title = extractTitle(id3v2Tag, id3v1Tag);
+        year = extractYear(id3v2Tag, id3v1Tag);
+        album = extractAlbum(id3v2Tag, id3v1Tag);
+        track = extractTrack(id3v2Tag, id3v1Tag);
         trackAsInt = extractTrackAsInt();
-        length = mp3.getLengthInMilliseconds();
-        filename = mp3.getFilename();
+        this.length = length;
+        this.filename = filename;
     }
 
-    private String extractArtist(Mp3File mp3) {
-        if (mp3.hasId3v2Tag()) {
-            ID3v2 id3v2Tag = mp3.getId3v2Tag();
+    private String extractArtist(ID3v2 id3v2Tag, ID3v1 id3v1Tag) {
+        if (id3v2Tag != null) {
             return id3v2Tag.getArtist();
         }
-        if (mp3.hasId3v1Tag()) {
-            ID3v1 id3v1Tag = mp3.getId3v1Tag();
+        if (id3v1Tag != null) {
             return id3v1Tag.getArtist();
         }
         return EMPTY;
     }
 
-    private String extractAlbumArtist(Mp3File mp3) {
-        if (mp3.hasId3v2Tag()) {
-            ID3v2 id3v2Tag = mp3.getId3v2Tag();
+    private String extractAlbumArtist(ID3v2 id3v2Tag) {
+        if (id3v2Tag != null) {
             return id3v2Tag.getAlbumArtist();
         }
         return EMPTY;
     }
 
-    private String extractTitle(Mp3File mp3) {
-        if (mp3.hasId3v2Tag()) {
-            ID3v2 id3v2Tag = mp3.getId3v2Tag();
+    private String extractTitle(ID3v2 id3v2Tag, ID3v1 id3v1Tag) {
+        if (id3v2Tag != null) {
             return id3v2Tag.getTitle();
         }
-        if (mp3.hasId3v1Tag()) {
-            ID3v1 id3v1Tag = mp3.getId3v1Tag();
+        if (id3v1Tag != null) {
             return id3v1Tag.getTitle();
         }
         return EMPTY;
     }
 
-    private String extractYear(Mp3File mp3) {
-        if (mp3.hasId3v2Tag()) {
-            ID3v2 id3v2Tag = mp3.getId3v2Tag();
+    private String extractYear(ID3v2 id3v2Tag, ID3v1 id3v1Tag) {
+        if (id3v2Tag != null) {
             return id3v2Tag.getYear();
         }
-        if (mp3.hasId3v1Tag()) {
-            ID3v1 id3v1Tag = mp3.getId3v1Tag();
+        if (id3v1Tag != null) {
             return id3v1Tag.getYear();
         }
         return EMPTY;
     }
 
-    private String extractAlbum(Mp3File mp3) {
-        if (mp3.hasId3v2Tag()) {
-            ID3v2 id3v2Tag = mp3.getId3v2Tag();
+    private String extractAlbum(ID3v2 id3v2Tag, ID3v1 id3v1Tag) {
+        if (id3v2Tag != null) {
             return Optional.ofNullable(id3v2Tag.getAlbum()).orElse(EMPTY);
         }
-        if (mp3.hasId3v1Tag()) {
-            ID3v1 id3v1Tag = mp3.getId3v1Tag();
+        if (id3v1Tag != null) {
             return Optional.ofNullable(id3v1Tag.getAlbum()).orElse(EMPTY);
         }
         return EMPTY;
     }
 
-    private String extractTrack(Mp3File mp3) {
-        if (mp3.hasId3v2Tag()) {
-            ID3v2 id3v2Tag = mp3.getId3v2Tag();
+    private String extractTrack(ID3v2 id3v2Tag, ID3v1 id3v1Tag) {
+        if (id3v2Tag != null) {
             return Optional.ofNullable(id3v2Tag.getTrack()).orElse(DEFAULT_TRACK);
         }
-        if (mp3.hasId3v1Tag()) {
-            ID3v1 id3v1Tag = mp3.getId3v1Tag();
+        if (id3v1Tag != null) {
             return Optional.ofNullable(id3v1Tag.getTrack()).orElse(DEFAULT_TRACK);
         }
         return DEFAULT_TRACK;
     }
 
+    public void setTrack(String track) {
+        this.track = track;
+        trackAsInt = extractTrackAsInt();
+    }
+
     int extractTrackAsInt() {
+        if (track == null) {
+            return 1;
+        }
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < track.length(); i++) {
             char c = track.charAt(i);
@@ -178,11 +190,8 @@ public class Mp3 implements BeatportSearchInput {
 
     private static Optional<byte[]> getAlbumArtBytes(Path path) {
         try {
-            Mp3File mp3File = new Mp3File(path);
-            if (mp3File.hasId3v2Tag()) {
-                ID3v2 id3v2Tag = mp3File.getId3v2Tag();
-                return Optional.ofNullable(id3v2Tag.getAlbumImage());
-            }
+            Optional<ID3v2> id3v2Tag = Id3TagReader.readId3v2Tag(path);
+            return id3v2Tag.map(ID3v2::getAlbumImage);
         } catch (IOException | UnsupportedTagException | InvalidDataException e) {
             log.error("Could not load mp3: {}", e.getMessage());
         }
@@ -190,15 +199,15 @@ public class Mp3 implements BeatportSearchInput {
     }
 
     public void setAlbumArtAndSaveTags(byte[] bytes) {
-        if (isCurrentlyPlaying()) {
-            Messenger.send(new BeginToSaveTagsMessage());
-        }
+        BeginToSaveTagsMessage message = new BeginToSaveTagsMessage(this);
+        Messenger.send(message);
+        waitForMediaReleased(message);
         Path path = Paths.get(getFilename());
         try {
-            Mp3File mp3File = new Mp3File(path);
-            setId3v2Tag(bytes, mp3File);
-            setId3v1Tag(mp3File);
-            updateFile(mp3File);
+            Id3Tags tags = Id3TagReader.read(path);
+            ID3v2 id3v2Tag = getId3v2Tag(bytes, tags);
+            ID3v1 id3v1Tag = getId3v1Tag(tags);
+            updateFile(path, id3v2Tag, id3v1Tag);
             Platform.runLater(() -> changed.set(true));
             if (isCurrentlyPlaying()) {
                 Messenger.send(new TagsSavedMessage(this));
@@ -208,47 +217,33 @@ public class Mp3 implements BeatportSearchInput {
         }
     }
 
-    private String getNewFileName(Mp3File mp3) {
-        String id3v1Album = mp3.hasId3v1Tag() ? mp3.getId3v1Tag().getArtist() : EMPTY;
-        String newArtist = mp3.hasId3v2Tag() ? mp3.getId3v2Tag().getArtist() : id3v1Album;
-        String id3v1Title = mp3.hasId3v1Tag() ? mp3.getId3v1Tag().getTitle() : EMPTY;
-        String newTitle = mp3.hasId3v2Tag() ? mp3.getId3v2Tag().getTitle() : id3v1Title;
-        Path path = Paths.get(mp3.getFilename());
-        String folder = mp3.getFilename().replace(path.getFileName().toString(), EMPTY);
-        return folder + newArtist + " - " + newTitle + ".mp3";
-    }
-
-    private void updateFile(Mp3File mp3) throws IOException, NotSupportedException {
-        String newFileName = getNewFileName(mp3);
-        if (newFileName.equals(mp3.getFilename())) {
-            replaceFile(mp3, newFileName);
-        } else {
-            saveAsNew(mp3, newFileName);
+    private static void waitForMediaReleased(BeginToSaveTagsMessage message) {
+        try {
+            message.getMediaReleased().get(DISPOSE_MAX_WAIT_MS, MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("Media not released before saving tags: {}", e.getMessage());
         }
     }
 
-    private void replaceFile(Mp3File mp3, String newFileName) throws IOException, NotSupportedException {
-        newFileName = newFileName.replace(".mp3", "-new.mp3");
-        mp3.save(newFileName);
-        Path from = Paths.get(newFileName);
-        Path to = Paths.get(getFilename());
-        FileTime creationTime = Files.getFileAttributeView(to, BasicFileAttributeView.class).readAttributes().creationTime();
-        Files.move(from, to, REPLACE_EXISTING);
-        Files.getFileAttributeView(to, BasicFileAttributeView.class).setTimes(FileTime.fromMillis(System.currentTimeMillis()), null, creationTime);
+    private String getNewFileName(ID3v2 id3v2Tag) {
+        Path path = Paths.get(getFilename());
+        String folder = getFilename().replace(path.getFileName().toString(), EMPTY);
+        return folder + id3v2Tag.getArtist() + " - " + id3v2Tag.getTitle() + ".mp3";
     }
 
-    private void saveAsNew(Mp3File mp3, String newFileName) throws IOException, NotSupportedException {
-        mp3.save(newFileName);
-        Path oldPath = Paths.get(getFilename());
-        Path newPath = Paths.get(newFileName);
-        FileTime creationTime = Files.getFileAttributeView(oldPath, BasicFileAttributeView.class).readAttributes().creationTime();
-        Files.getFileAttributeView(newPath, BasicFileAttributeView.class).setTimes(FileTime.fromMillis(System.currentTimeMillis()), null, creationTime);
-        Files.delete(oldPath);
-        filename = mp3.getFilename();
+    private void updateFile(Path path, ID3v2 id3v2Tag, ID3v1 id3v1Tag) throws IOException, NotSupportedException {
+        Id3TagWriter.write(path, id3v2Tag, id3v1Tag);
+        String newFileName = getNewFileName(id3v2Tag);
+        if (!newFileName.equals(getFilename())) {
+            Files.move(path, Paths.get(newFileName), REPLACE_EXISTING);
+            filename = newFileName;
+        }
     }
 
-    private void setId3v2Tag(byte[] albumArtBytes, Mp3File mp3) {
-        ID3v2 id3v2Tag = mp3.hasId3v2Tag() ? mp3.getId3v2Tag() : new ID3v24Tag();
+    private ID3v2 getId3v2Tag(byte[] albumArtBytes, Id3Tags tags) {
+        ID3v2 id3v2Tag = tags.hasId3v2Tag() ? tags.getId3v2Tag() : new ID3v24Tag();
         id3v2Tag.clearAlbumImage();
         id3v2Tag.setAlbumImage(albumArtBytes, "image/jpeg");
         setCommonTags(id3v2Tag);
@@ -259,18 +254,14 @@ public class Mp3 implements BeatportSearchInput {
             id3v2Tag.setGenreDescription(genre);
         }
         id3v2Tag.setBPM(bpm);
-        if (!mp3.hasId3v2Tag()) {
-            mp3.setId3v2Tag(id3v2Tag);
-        }
+        return id3v2Tag;
     }
 
-    private void setId3v1Tag(Mp3File mp3) {
-        ID3v1 id3v1Tag = mp3.hasId3v1Tag() ? mp3.getId3v1Tag() : new ID3v1Tag();
+    private ID3v1 getId3v1Tag(Id3Tags tags) {
+        ID3v1 id3v1Tag = tags.hasId3v1Tag() ? tags.getId3v1Tag() : new ID3v1Tag();
         setCommonTags(id3v1Tag);
         id3v1Tag.setYear(year.substring(0, Math.min(year.length(), 4)));
-        if (!mp3.hasId3v1Tag()) {
-            mp3.setId3v1Tag(id3v1Tag);
-        }
+        return id3v1Tag;
     }
 
     private void setCommonTags(ID3v1 tag) {
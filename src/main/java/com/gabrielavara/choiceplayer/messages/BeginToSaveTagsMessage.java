@@ -1,5 +1,15 @@
 package com.gabrielavara.choiceplayer.messages;
 
-@SuppressWarnings("squid:S2094")
+import java.util.concurrent.CompletableFuture;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
 public class BeginToSaveTagsMessage {
+    private final Mp3 mp3;
+    private final CompletableFuture<Void> mediaReleased = new CompletableFuture<>();
 }
@@ -0,0 +1,5 @@
+package com.gabrielavara.choiceplayer.messenger;
+
+public enum DispatchPolicy {
+    INLINE, FX_THREAD, BACKGROUND
+}
@@ -0,0 +1,234 @@
+package com.gabrielavara.choiceplayer.messenger;
+
+import static com.gabrielavara.choiceplayer.messenger.DispatchPolicy.INLINE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javafx.application.Platform;
+
+public class EventBus {
+    private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.messenger.EventBus");
+
+    private final Map<Class<?>, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, MessageMetrics> metrics = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Coalescer<?>> coalescers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor backgroundExecutor;
+    private final ScheduledExecutorService windowExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r);
+        t.setName("Event bus window thread " + t.getId());
+        t.setDaemon(true);
+        return t;
+    });
+    private final Semaphore fxQueue;
+
+    public EventBus(int queueCapacity) {
+        backgroundExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueCapacity), r -> {
+            Thread t = new Thread(r);
+            t.setName("Event bus thread " + t.getId());
+            t.setDaemon(true);
+            return t;
+        }, EventBus::waitForQueue);
+        fxQueue = new Semaphore(queueCapacity);
+    }
+
+    public <T> void register(Class<T> clazz, MessageConsumer<T> consumer, DispatchPolicy policy) {
+        subscribers.computeIfAbsent(clazz, c -> new CopyOnWriteArrayList<>()).add(new Subscriber(consumer, policy));
+    }
+
+    public <T> void registerBatch(Class<T> clazz, long windowMillis, MessageConsumer<List<T>> consumer, DispatchPolicy policy) {
+        Batcher<T> batcher = new Batcher<>(clazz, windowMillis, new Subscriber(consumer, policy));
+        register(clazz, batcher::add, INLINE);
+    }
+
+    public <T> void coalesce(Class<T> clazz, long windowMillis, BinaryOperator<T> merger) {
+        coalescers.put(clazz, new Coalescer<>(clazz, windowMillis, merger));
+    }
+
+    public <T> void unregister(Class<T> clazz, MessageConsumer<T> consumer) {
+        List<Subscriber> list = subscribers.get(clazz);
+        if (list != null) {
+            list.removeIf(s -> s.consumer == consumer);
+        }
+    }
+
+    public <T> void send(T message) {
+        getMetrics(message.getClass()).sent();
+        Coalescer<?> coalescer = coalescers.get(message.getClass());
+        if (coalescer != null) {
+            coalescer.add(message);
+        } else {
+            publish(message, System.nanoTime());
+        }
+    }
+
+    private void publish(Object message, long sentAt) {
+        List<Subscriber> list = subscribers.get(message.getClass());
+        if (list == null) {
+            return;
+        }
+        MessageMetrics messageMetrics = getMetrics(message.getClass());
+        for (Subscriber subscriber : list) {
+            dispatch(subscriber, message, messageMetrics, sentAt);
+        }
+    }
+
+    public MessageMetrics getMetrics(Class<?> clazz) {
+        return metrics.computeIfAbsent(clazz, c -> new MessageMetrics());
+    }
+
+    private void dispatch(Subscriber subscriber, Object message, MessageMetrics messageMetrics, long sentAt) {
+        switch (subscriber.policy) {
+            case FX_THREAD:
+                if (Platform.isFxApplicationThread()) {
+                    deliver(subscriber, message, messageMetrics, sentAt, true);
+                } else {
+                    enqueueOnFxThread(subscriber, message, messageMetrics, sentAt);
+                }
+                break;
+            case BACKGROUND:
+                messageMetrics.enqueued();
+                backgroundExecutor.execute(() -> {
+                    messageMetrics.dequeued();
+                    deliver(subscriber, message, messageMetrics, sentAt, false);
+                });
+                break;
+            default:
+                deliver(subscriber, message, messageMetrics, sentAt, true);
+        }
+    }
+
+    private void enqueueOnFxThread(Subscriber subscriber, Object message, MessageMetrics messageMetrics, long sentAt) {
+        try {
+            fxQueue.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while waiting to dispatch {}", message.getClass().getSimpleName());
+            return;
+        }
+        messageMetrics.enqueued();
+        Platform.runLater(() -> {
+            fxQueue.release();
+            messageMetrics.dequeued();
+            deliver(subscriber, message, messageMetrics, sentAt, false);
+        });
+    }
+
+    private void deliver(Subscriber subscriber, Object message, MessageMetrics messageMetrics, long sentAt, boolean rethrow) {
+        try {
+            subscriber.consumer.consume(message);
+            messageMetrics.delivered(System.nanoTime() - sentAt);
+        } catch (RuntimeException e) {
+            messageMetrics.failed();
+            if (rethrow) {
+                throw e;
+            }
+            log.error("Could not consume {}", message.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static void waitForQueue(Runnable runnable, ThreadPoolExecutor executor) {
+        try {
+            executor.getQueue().put(runnable);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the event bus queue", e);
+        }
+    }
+
+    private class Coalescer<T> {
+        private final Class<T> clazz;
+        private final long windowMillis;
+        private final BinaryOperator<T> merger;
+        private T pending;
+        private long firstSentAt;
+
+        private Coalescer(Class<T> clazz, long windowMillis, BinaryOperator<T> merger) {
+            this.clazz = clazz;
+            this.windowMillis = windowMillis;
+            this.merger = merger;
+        }
+
+        private synchronized void add(Object sent) {
+            T message = clazz.cast(sent);
+            if (pending == null) {
+                pending = message;
+                firstSentAt = System.nanoTime();
+                windowExecutor.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            } else {
+                pending = merger.apply(pending, message);
+                getMetrics(clazz).coalesced();
+            }
+        }
+
+        private void flush() {
+            T message;
+            long sentAt;
+            synchronized (this) {
+                message = pending;
+                sentAt = firstSentAt;
+                pending = null;
+            }
+            publish(message, sentAt);
+        }
+    }
+
+    private class Batcher<T> {
+        private final Class<T> clazz;
+        private final long windowMillis;
+        private final Subscriber subscriber;
+        private List<T> pending;
+        private long firstSentAt;
+
+        private Batcher(Class<T> clazz, long windowMillis, Subscriber subscriber) {
+            this.clazz = clazz;
+            this.windowMillis = windowMillis;
+            this.subscriber = subscriber;
+        }
+
+        private synchronized void add(T message) {
+            if (pending == null) {
+                pending = new ArrayList<>();
+                firstSentAt = System.nanoTime();
+                windowExecutor.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+            pending.add(message);
+        }
+
+        private void flush() {
+            List<T> batch;
+            long sentAt;
+            synchronized (this) {
+                batch = pending;
+                sentAt = firstSentAt;
+                pending = null;
+            }
+            dispatch(subscriber, batch, getMetrics(clazz), sentAt);
+        }
+    }
+
+    private static class Subscriber {
+        private final MessageConsumer<Object> consumer;
+        private final DispatchPolicy policy;
+
+        @SuppressWarnings("unchecked")
+        private Subscriber(MessageConsumer<?> consumer, DispatchPolicy policy) {
+            this.consumer = (MessageConsumer<Object>) consumer;
+            this.policy = policy;
+        }
+    }
+}
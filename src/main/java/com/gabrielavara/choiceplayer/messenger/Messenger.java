@@ -1,31 +1,38 @@
 package com.gabrielavara.choiceplayer.messenger;
 
-import static java.util.Collections.singletonList;
+import static com.gabrielavara.choiceplayer.Constants.MESSENGER_QUEUE_CAPACITY;
+import static com.gabrielavara.choiceplayer.messenger.DispatchPolicy.INLINE;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.function.BinaryOperator;
 
 public class Messenger {
-    private static Map<Class, List<MessageConsumer>> map = new HashMap<>();
+    private static final EventBus bus = new EventBus(MESSENGER_QUEUE_CAPACITY);
 
     private Messenger() {
     }
 
     public static <T> void register(Class<T> clazz, MessageConsumer<T> consumer) {
-        if (map.containsKey(clazz)) {
-            List<MessageConsumer> consumers = map.get(clazz);
-            consumers.add(consumer);
-        } else {
-            map.put(clazz, new ArrayList<>(singletonList(consumer)));
-        }
+        register(clazz, consumer, INLINE);
+    }
+
+    public static <T> void register(Class<T> clazz, MessageConsumer<T> consumer, DispatchPolicy policy) {
+        bus.register(clazz, consumer, policy);
+    }
+
+    public static <T> void registerBatch(Class<T> clazz, long windowMillis, MessageConsumer<List<T>> consumer, DispatchPolicy policy) {
+        bus.registerBatch(clazz, windowMillis, consumer, policy);
+    }
+
+    public static <T> void coalesce(Class<T> clazz, long windowMillis, BinaryOperator<T> merger) {
+        bus.coalesce(clazz, windowMillis, merger);
     }
 
-    @SuppressWarnings("unchecked")
     public static <T> void send(T message) {
-        if (map.containsKey(message.getClass())) {
-            map.get(message.getClass()).forEach(consumer -> consumer.consume(message));
-        }
+        bus.send(message);
+    }
+
+    public static MessageMetrics getMetrics(Class<?> clazz) {
+        return bus.getMetrics(clazz);
     }
 }
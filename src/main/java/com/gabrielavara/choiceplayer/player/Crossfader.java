@@ -0,0 +1,42 @@
+package com.gabrielavara.choiceplayer.player;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+
+public class Crossfader {
+    private final MediaPlayerLifecycleManager mediaPlayerLifecycleManager;
+
+    public Crossfader(MediaPlayerLifecycleManager mediaPlayerLifecycleManager) {
+        this.mediaPlayerLifecycleManager = mediaPlayerLifecycleManager;
+    }
+
+    public static boolean isDue(Duration currentTime, Duration duration, int crossfadeMillis) {
+        if (crossfadeMillis <= 0 || currentTime == null || duration == null || duration.isUnknown() || duration.isIndefinite()) {
+            return false;
+        }
+        Duration crossfade = Duration.millis(crossfadeMillis);
+        return duration.greaterThan(crossfade.multiply(2)) && duration.subtract(currentTime).lessThanOrEqualTo(crossfade);
+    }
+
+    public static Timeline createVolumeTimeLine(MediaPlayer mediaPlayer, double volume, int duration) {
+        return new Timeline(
+                new KeyFrame(Duration.ZERO, new KeyValue(mediaPlayer.volumeProperty(), mediaPlayer.getVolume())),
+                new KeyFrame(Duration.millis(duration), new KeyValue(mediaPlayer.volumeProperty(), volume)));
+    }
+
+    public void fadeIn(MediaPlayer mediaPlayer, int crossfadeMillis) {
+        mediaPlayer.setVolume(0);
+        mediaPlayer.play();
+        createVolumeTimeLine(mediaPlayer, 1, crossfadeMillis).play();
+    }
+
+    public void fadeOut(MediaPlayer mediaPlayer, int crossfadeMillis) {
+        mediaPlayer.setOnEndOfMedia(() -> mediaPlayerLifecycleManager.retire(mediaPlayer));
+        Timeline timeLine = createVolumeTimeLine(mediaPlayer, 0, crossfadeMillis);
+        timeLine.setOnFinished(e -> mediaPlayerLifecycleManager.retire(mediaPlayer));
+        timeLine.play();
+    }
+}
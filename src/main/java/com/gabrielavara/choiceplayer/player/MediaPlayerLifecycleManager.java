@@ -0,0 +1,99 @@
+package com.gabrielavara.choiceplayer.player;
+
+import static com.gabrielavara.choiceplayer.Constants.DISPOSE_MAX_WAIT_MS;
+import static com.gabrielavara.choiceplayer.Constants.DISPOSE_WAIT_MS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static javafx.scene.media.MediaPlayer.Status.DISPOSED;
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.awaitility.Awaitility;
+import org.awaitility.core.ConditionTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javafx.scene.media.MediaPlayer;
+
+public class MediaPlayerLifecycleManager {
+    private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.player.MediaPlayerLifecycleManager");
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r);
+        t.setName("Media player dispose thread " + t.getId());
+        t.setDaemon(true);
+        return t;
+    });
+    private final Map<MediaPlayer, CompletableFuture<Void>> retiring = new ConcurrentHashMap<>();
+    private final AtomicLong disposedCount = new AtomicLong();
+    private final AtomicLong notDisposedCount = new AtomicLong();
+    private final AtomicLong totalDisposeNanos = new AtomicLong();
+    private final AtomicLong maxDisposeNanos = new AtomicLong();
+
+    public CompletableFuture<Void> retire(MediaPlayer mediaPlayer) {
+        if (mediaPlayer.getStatus() == DISPOSED) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> disposed = retiring.computeIfAbsent(mediaPlayer, p -> {
+            p.setOnReady(null);
+            p.setOnEndOfMedia(null);
+            return CompletableFuture.runAsync(() -> dispose(p), executorService);
+        });
+        disposed.whenComplete((result, e) -> retiring.remove(mediaPlayer, disposed));
+        return disposed;
+    }
+
+    private void dispose(MediaPlayer mediaPlayer) {
+        long start = System.nanoTime();
+        try {
+            mediaPlayer.dispose();
+            waitForDispose(mediaPlayer);
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    private void waitForDispose(MediaPlayer mediaPlayer) {
+        try {
+            Awaitility.with().pollInterval(DISPOSE_WAIT_MS, MILLISECONDS).await()
+                    .atMost(DISPOSE_MAX_WAIT_MS, MILLISECONDS).until(() -> mediaPlayer.statusProperty().get(), equalTo(DISPOSED));
+        } catch (ConditionTimeoutException e) {
+            notDisposedCount.incrementAndGet();
+            log.debug("Media player not disposed :( {}", e);
+        }
+    }
+
+    private void record(long nanos) {
+        disposedCount.incrementAndGet();
+        totalDisposeNanos.addAndGet(nanos);
+        maxDisposeNanos.accumulateAndGet(nanos, Math::max);
+        log.debug("Media player disposed in {} ms", TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    public int getRetiringCount() {
+        return retiring.size();
+    }
+
+    public long getDisposedCount() {
+        return disposedCount.get();
+    }
+
+    public long getNotDisposedCount() {
+        return notDisposedCount.get();
+    }
+
+    public double getAverageDisposeMillis() {
+        long count = disposedCount.get();
+        return count == 0 ? 0 : totalDisposeNanos.get() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public long getMaxDisposeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxDisposeNanos.get());
+    }
+}
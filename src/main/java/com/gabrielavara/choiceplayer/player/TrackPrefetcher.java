@@ -0,0 +1,116 @@
+package com.gabrielavara.choiceplayer.player;
+
+import static com.gabrielavara.choiceplayer.Constants.ALBUM_ART_SIZE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+import com.gabrielavara.choiceplayer.util.AlbumArtCache;
+import com.gabrielavara.choiceplayer.util.MediaUrl;
+import com.gabrielavara.choiceplayer.util.RenderVariantPipeline;
+
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaException;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+import lombok.AllArgsConstructor;
+
+public class TrackPrefetcher {
+    private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.player.TrackPrefetcher");
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r);
+        t.setName("Track prefetcher thread " + t.getId());
+        t.setDaemon(true);
+        return t;
+    });
+    private final MediaPlayerLifecycleManager mediaPlayerLifecycleManager;
+    private Prefetched prefetched;
+
+    public TrackPrefetcher(MediaPlayerLifecycleManager mediaPlayerLifecycleManager) {
+        this.mediaPlayerLifecycleManager = mediaPlayerLifecycleManager;
+    }
+
+    public static boolean isDue(Duration currentTime, Duration duration, int prefetchSeconds) {
+        if (prefetchSeconds <= 0 || currentTime == null || duration == null || duration.isUnknown() || duration.isIndefinite()) {
+            return false;
+        }
+        return duration.subtract(currentTime).lessThanOrEqualTo(Duration.seconds(prefetchSeconds));
+    }
+
+    public synchronized void prefetch(Mp3 mp3) {
+        if (prefetched != null && prefetched.filename.equals(mp3.getFilename())) {
+            return;
+        }
+        discard();
+        Optional<String> mediaUrl = MediaUrl.create(mp3);
+        if (!mediaUrl.isPresent()) {
+            return;
+        }
+        log.info("Prefetch next track: {}", mp3);
+        try {
+            prefetched = new Prefetched(mp3.getFilename(), getLastModified(mp3), new MediaPlayer(new Media(mediaUrl.get())));
+        } catch (MediaException e) {
+            log.error("Could not prefetch media: {}", e.getMessage());
+        }
+        RenderVariantPipeline.getDefault().get(mp3);
+        executorService.submit(() -> AlbumArtCache.getAlbumArt(mp3, ALBUM_ART_SIZE));
+    }
+
+    public synchronized Optional<MediaPlayer> take(Mp3 mp3) {
+        if (prefetched == null || !prefetched.filename.equals(mp3.getFilename())) {
+            return Optional.empty();
+        }
+        if (!prefetched.isUnchanged(mp3)) {
+            discard();
+            return Optional.empty();
+        }
+        MediaPlayer mediaPlayer = prefetched.mediaPlayer;
+        prefetched = null;
+        return Optional.of(mediaPlayer);
+    }
+
+    public synchronized CompletableFuture<Void> discard() {
+        if (prefetched == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        MediaPlayer mediaPlayer = prefetched.mediaPlayer;
+        prefetched = null;
+        return mediaPlayerLifecycleManager.retire(mediaPlayer);
+    }
+
+    public synchronized CompletableFuture<Void> discard(Mp3 mp3) {
+        if (prefetched == null || !prefetched.filename.equals(mp3.getFilename())) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return discard();
+    }
+
+    private static long getLastModified(Mp3 mp3) {
+        try {
+            return Files.getLastModifiedTime(Paths.get(mp3.getFilename())).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Prefetched {
+        private final String filename;
+        private final long lastModified;
+        private final MediaPlayer mediaPlayer;
+
+        private boolean isUnchanged(Mp3 mp3) {
+            return lastModified == getLastModified(mp3);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.gabrielavara.choiceplayer.playlist;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+import com.gabrielavara.choiceplayer.views.PlaylistItemView;
+
+/**
+ * A 16 byte header (magic, version, string count, record count), then the string table as length-prefixed UTF-8
+ * strings, then one fixed-length record per track that refers to the strings by id. The file is read into a heap buffer
+ * in one go and written in chunks, so neither direction keeps the file mapped or builds it whole in memory.
+ */
+class BinaryPlaylistCache {
+    static final int MAGIC = 0x43504C43;
+    static final int VERSION = 1;
+
+    private static final int HEADER_LENGTH = 16;
+    private static final int RECORD_LENGTH = 40;
+    private static final int NO_STRING = -1;
+    private static final int CURRENTLY_PLAYING_FLAG = 0x01;
+    private static final int CHUNK_LENGTH = 64 * 1024;
+
+    private BinaryPlaylistCache() {
+    }
+
+    static List<PlaylistItemView> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            ByteBuffer buffer = readFully(channel);
+            if (buffer.limit() < HEADER_LENGTH || buffer.getInt() != MAGIC) {
+                throw new IOException("Not a playlist cache file: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported playlist cache version: " + version);
+            }
+            int stringCount = buffer.getInt();
+            int recordCount = buffer.getInt();
+            String[] strings = readStrings(buffer, stringCount);
+            List<PlaylistItemView> playlist = new ArrayList<>(recordCount);
+            for (int i = 0; i < recordCount; i++) {
+                playlist.add(readRecord(buffer, strings));
+            }
+            return playlist;
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new IOException("Corrupt playlist cache file: " + path, e);
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static String[] readStrings(ByteBuffer buffer, int stringCount) {
+        String[] strings = new String[stringCount];
+        byte[] bytes = new byte[0];
+        for (int i = 0; i < stringCount; i++) {
+            int length = buffer.getInt();
+            if (bytes.length < length) {
+                bytes = new byte[length];
+            }
+            buffer.get(bytes, 0, length);
+            strings[i] = new String(bytes, 0, length, UTF_8);
+        }
+        return strings;
+    }
+
+    private static PlaylistItemView readRecord(ByteBuffer buffer, String[] strings) {
+        int index = buffer.getInt();
+        Mp3 mp3 = new Mp3();
+        mp3.setArtist(getString(strings, buffer.getInt()));
+        mp3.setTitle(getString(strings, buffer.getInt()));
+        mp3.setYear(getString(strings, buffer.getInt()));
+        mp3.setAlbum(getString(strings, buffer.getInt()));
+        mp3.setTrack(getString(strings, buffer.getInt()));
+        mp3.setFilename(getString(strings, buffer.getInt()));
+        mp3.setLength(buffer.getLong());
+        mp3.setCurrentlyPlaying((buffer.getInt() & CURRENTLY_PLAYING_FLAG) != 0);
+        return new PlaylistItemView(index, mp3);
+    }
+
+    private static String getString(String[] strings, int id) {
+        return id == NO_STRING ? null : strings[id];
+    }
+
+    static void write(Path path, List<PlaylistItemView> playlist) throws IOException {
+        Map<String, Integer> stringIds = new LinkedHashMap<>();
+        for (PlaylistItemView itemView : playlist) {
+            addStrings(stringIds, itemView.getMp3());
+        }
+
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryPath, WRITE, CREATE, TRUNCATE_EXISTING)) {
+            ByteBuffer chunk = ByteBuffer.allocate(CHUNK_LENGTH);
+            chunk.putInt(MAGIC).putInt(VERSION).putInt(stringIds.size()).putInt(playlist.size());
+            for (String string : stringIds.keySet()) {
+                byte[] bytes = string.getBytes(UTF_8);
+                ensureRemaining(channel, chunk, Integer.BYTES);
+                chunk.putInt(bytes.length);
+                if (bytes.length > chunk.capacity()) {
+                    flush(channel, chunk);
+                    writeFully(channel, ByteBuffer.wrap(bytes));
+                } else {
+                    ensureRemaining(channel, chunk, bytes.length);
+                    chunk.put(bytes);
+                }
+            }
+            for (PlaylistItemView itemView : playlist) {
+                ensureRemaining(channel, chunk, RECORD_LENGTH);
+                writeRecord(chunk, itemView, stringIds);
+            }
+            flush(channel, chunk);
+        }
+        Files.move(temporaryPath, path, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    private static void addStrings(Map<String, Integer> stringIds, Mp3 mp3) {
+        getStringId(stringIds, mp3.getArtist());
+        getStringId(stringIds, mp3.getTitle());
+        getStringId(stringIds, mp3.getYear());
+        getStringId(stringIds, mp3.getAlbum());
+        getStringId(stringIds, mp3.getTrack());
+        getStringId(stringIds, mp3.getFilename());
+    }
+
+    private static void ensureRemaining(FileChannel channel, ByteBuffer chunk, int length) throws IOException {
+        if (chunk.remaining() < length) {
+            flush(channel, chunk);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer chunk) throws IOException {
+        chunk.flip();
+        writeFully(channel, chunk);
+        chunk.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void writeRecord(ByteBuffer records, PlaylistItemView itemView, Map<String, Integer> stringIds) {
+        Mp3 mp3 = itemView.getMp3();
+        records.putInt(itemView.getIndex());
+        records.putInt(getStringId(stringIds, mp3.getArtist()));
+        records.putInt(getStringId(stringIds, mp3.getTitle()));
+        records.putInt(getStringId(stringIds, mp3.getYear()));
+        records.putInt(getStringId(stringIds, mp3.getAlbum()));
+        records.putInt(getStringId(stringIds, mp3.getTrack()));
+        records.putInt(getStringId(stringIds, mp3.getFilename()));
+        records.putLong(mp3.getLength());
+        records.putInt(mp3.isCurrentlyPlaying() ? CURRENTLY_PLAYING_FLAG : 0);
+    }
+
+    private static int getStringId(Map<String, Integer> stringIds, String string) {
+        if (string == null) {
+            return NO_STRING;
+        }
+        return stringIds.computeIfAbsent(string, s -> stringIds.size());
+    }
+}
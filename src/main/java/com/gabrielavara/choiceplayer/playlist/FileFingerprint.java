@@ -0,0 +1,19 @@
+package com.gabrielavara.choiceplayer.playlist;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileFingerprint {
+    private String path;
+    private long size;
+    private long lastModified;
+    private long creationTime;
+
+    boolean isSameContent(FileFingerprint other) {
+        return other != null && path.equals(other.path) && size == other.size && lastModified == other.lastModified;
+    }
+}
@@ -0,0 +1,57 @@
+package com.gabrielavara.choiceplayer.playlist;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+class IndexedTrack {
+    private FileFingerprint fingerprint;
+    private String artist;
+    private String albumArtist;
+    private String comment;
+    private String genre;
+    private int bpm;
+    private String title;
+    private String year;
+    private String album;
+    private String track;
+    private long length;
+    private String filename;
+
+    static IndexedTrack from(PlaylistIndexEntry entry) {
+        Mp3 mp3 = entry.getMp3();
+        IndexedTrack indexedTrack = new IndexedTrack();
+        indexedTrack.fingerprint = entry.getFingerprint();
+        indexedTrack.artist = mp3.getArtist();
+        indexedTrack.albumArtist = mp3.getAlbumArtist();
+        indexedTrack.comment = mp3.getComment();
+        indexedTrack.genre = mp3.getGenre();
+        indexedTrack.bpm = mp3.getBpm();
+        indexedTrack.title = mp3.getTitle();
+        indexedTrack.year = mp3.getYear();
+        indexedTrack.album = mp3.getAlbum();
+        indexedTrack.track = mp3.getTrack();
+        indexedTrack.length = mp3.getLength();
+        indexedTrack.filename = mp3.getFilename();
+        return indexedTrack;
+    }
+
+    PlaylistIndexEntry toEntry() {
+        Mp3 mp3 = new Mp3();
+        mp3.setArtist(artist);
+        mp3.setAlbumArtist(albumArtist);
+        mp3.setComment(comment);
+        mp3.setGenre(genre);
+        mp3.setBpm(bpm);
+        mp3.setTitle(title);
+        mp3.setYear(year);
+        mp3.setAlbum(album);
+        mp3.setTrack(track);
+        mp3.setLength(length);
+        mp3.setFilename(filename);
+        return new PlaylistIndexEntry(fingerprint, mp3, false);
+    }
+}
@@ -6,9 +6,11 @@ import com.gabrielavara.choiceplayer.messages.PlaylistLoadedMessage;
 import com.gabrielavara.choiceplayer.messages.SelectItemInNewPlaylistMessage;
 import com.gabrielavara.choiceplayer.messages.SnackBarMessage;
 import com.gabrielavara.choiceplayer.messenger.Messenger;
+import com.gabrielavara.choiceplayer.util.ThumbnailStore;
 import com.gabrielavara.choiceplayer.views.PlaylistCell;
 import com.gabrielavara.choiceplayer.views.PlaylistItemView;
 import com.jfoenix.controls.JFXListView;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 import org.slf4j.Logger;
@@ -31,6 +33,7 @@ public class Playlist {
 
     private ObservableList<PlaylistItemView> playlistItemViews;
     private final PlaylistAnimator playlistAnimator;
+    private int loadCount;
 
     public Playlist(JFXListView<PlaylistItemView> playlistView, ObservableList<PlaylistItemView> playlistItemViews, PlaylistAnimator playlistAnimator) {
         this.playlistItemViews = playlistItemViews;
@@ -90,18 +93,29 @@ public class Playlist {
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     private Task<List<PlaylistItemView>> createPlaylistLoaderTask(List<PlaylistItemView> cachedItems, Optional<PlaylistItemView> selected) {
         Messenger.send(new SnackBarMessage(LOAD_FILES_FROM_DISK));
+        int currentLoad = ++loadCount;
+        boolean showPartialItems = cachedItems.isEmpty();
         Task<List<PlaylistItemView>> playListLoaderTask = new Task<List<PlaylistItemView>>() {
             @Override
             protected List<PlaylistItemView> call() {
                 Path folder = getFolder();
                 log.info("Load playlist from {}", folder);
-                List<Mp3> files = createPlaylistLoader().load(folder);
+                List<Mp3> files = createPlaylistLoader().load(folder, batch -> {
+                    if (showPartialItems) {
+                        Platform.runLater(() -> showPartialItems(batch, cachedItems, currentLoad));
+                    }
+                });
                 return IntStream.range(0, files.size()).mapToObj(index -> new PlaylistItemView(index + 1, files.get(index))).collect(toList());
             }
         };
 
         playListLoaderTask.setOnSucceeded(e -> {
+            if (currentLoad != loadCount) {
+                log.info("Playlist loaded by an outdated task, skip it");
+                return;
+            }
             List<PlaylistItemView> items = playListLoaderTask.getValue();
+            ThumbnailStore.getDefault().fillInBackground(items.stream().map(PlaylistItemView::getMp3).collect(toList()));
             if (cachedItems.isEmpty() && items.isEmpty()) {
                 log.info("Cache empty, new items empty");
                 playlistAnimator.showItems(Optional.empty(), false);
@@ -112,12 +126,31 @@ public class Playlist {
                 reloadItems(items, selected);
             } else if (!items.isEmpty()) {
                 log.info("Loaded playlist equals cached playlist");
+                if (showPartialItems) {
+                    selected.ifPresent(s -> Messenger.send(new SelectItemInNewPlaylistMessage(s)));
+                }
                 Messenger.send(new PlaylistLoadedMessage());
             }
         });
         return playListLoaderTask;
     }
 
+    private void showPartialItems(List<Mp3> batch, List<PlaylistItemView> shownItems, int currentLoad) {
+        if (currentLoad != loadCount) {
+            return;
+        }
+        boolean firstBatch = shownItems.isEmpty();
+        int offset = shownItems.size();
+        List<PlaylistItemView> items = IntStream.range(0, batch.size())
+                .mapToObj(index -> new PlaylistItemView(offset + index + 1, batch.get(index))).collect(toList());
+        shownItems.addAll(items);
+        playlistItemViews.addAll(items);
+        if (firstBatch) {
+            log.info("Show first loaded items");
+            playlistAnimator.showItems(Optional.empty(), true);
+        }
+    }
+
     PlaylistLoader createPlaylistLoader() {
         return new PlaylistLoader();
     }
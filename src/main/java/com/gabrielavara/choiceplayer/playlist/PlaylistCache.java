@@ -1,28 +1,34 @@
 package com.gabrielavara.choiceplayer.playlist;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.nio.file.Files.readAllLines;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.nio.file.StandardOpenOption.WRITE;
 
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gabrielavara.choiceplayer.views.PlaylistItemView;
 
 public class PlaylistCache {
     private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.playlist.PlaylistCache");
+    private static final String PLAYLIST_CACHE_BIN = "playlistCache.bin";
     private static final String PLAYLIST_CACHE_JSON = "playlistCache.json";
 
     private PlaylistCache() {
@@ -30,38 +36,62 @@ public class PlaylistCache {
 
     public static List<PlaylistItemView> load() {
         log.info("Load playlist cache file");
-        Path path = Paths.get(PLAYLIST_CACHE_JSON);
+        Path path = Paths.get(PLAYLIST_CACHE_BIN);
         if (path.toFile().exists()) {
-            return loadFile(path);
-        } else {
-            log.info("Could not find playlist cache file");
-            return new ArrayList<>();
+            try {
+                return BinaryPlaylistCache.read(path);
+            } catch (IOException e) {
+                log.error("Could not load playlist cache", e);
+            }
         }
+        Path jsonPath = Paths.get(PLAYLIST_CACHE_JSON);
+        if (jsonPath.toFile().exists()) {
+            log.info("Import playlist cache from json");
+            return importJson(jsonPath);
+        }
+        log.info("Could not find playlist cache file");
+        return new ArrayList<>();
     }
 
-    private static List<PlaylistItemView> loadFile(Path path) {
+    public static void save(List<PlaylistItemView> playlist) {
+        log.info("Save playlist cache file");
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            String content = readAllLines(path, UTF_8).stream().collect(Collectors.joining(" "));
-            return objectMapper.readValue(content, new TypeReference<List<PlaylistItemView>>() {
-            });
+            BinaryPlaylistCache.write(Paths.get(PLAYLIST_CACHE_BIN), playlist);
         } catch (IOException e) {
-            log.error("Could not load playlist cache", e);
+            log.error("Could not save playlist cache", e);
+        }
+    }
+
+    public static List<PlaylistItemView> importJson(Path path) {
+        List<PlaylistItemView> playlist = new ArrayList<>();
+        try (JsonParser parser = new ObjectMapper().getFactory().createParser(Channels.newInputStream(FileChannel.open(path, READ)))) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Playlist cache should be an array");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                playlist.add(parser.readValueAs(PlaylistItemView.class));
+            }
+            return playlist;
+        } catch (IOException e) {
+            log.error("Could not import playlist cache", e);
             return new ArrayList<>();
         }
     }
 
-    public static void save(List<PlaylistItemView> playlist) {
-        log.info("Save playlist cache file");
-        ObjectMapper objectMapper = new ObjectMapper();
+    public static void exportJson(Path path, List<PlaylistItemView> playlist) {
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
         try {
-            String content = objectMapper.writeValueAsString(playlist);
-            Path path = Paths.get(PLAYLIST_CACHE_JSON);
-            if (content != null) {
-                Files.write(path, content.getBytes(), WRITE, CREATE, TRUNCATE_EXISTING);
+            try (JsonGenerator generator = new ObjectMapper().getFactory()
+                    .createGenerator(Channels.newOutputStream(FileChannel.open(temporaryPath, WRITE, CREATE, TRUNCATE_EXISTING)))) {
+                generator.writeStartArray();
+                for (PlaylistItemView itemView : playlist) {
+                    generator.writeObject(itemView);
+                }
+                generator.writeEndArray();
             }
+            Files.move(temporaryPath, path, REPLACE_EXISTING, ATOMIC_MOVE);
         } catch (IOException e) {
-            log.error("Could not save playlist cache");
+            log.error("Could not export playlist cache", e);
         }
     }
 }
@@ -0,0 +1,85 @@
+package com.gabrielavara.choiceplayer.playlist;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabrielavara.choiceplayer.dto.Mp3;
+
+public class PlaylistIndex {
+    private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.playlist.PlaylistIndex");
+    private static final String APPLICATION_FOLDER = ".choiceplayer";
+    private static final String PLAYLIST_INDEX_JSON = "playlistIndex.json";
+
+    private final Path path;
+    private final Map<String, PlaylistIndexEntry> entries = new HashMap<>();
+
+    private PlaylistIndex(Path path) {
+        this.path = path;
+    }
+
+    public static PlaylistIndex load() {
+        return load(Paths.get(System.getProperty("user.home"), APPLICATION_FOLDER, PLAYLIST_INDEX_JSON));
+    }
+
+    static PlaylistIndex load(Path path) {
+        PlaylistIndex playlistIndex = new PlaylistIndex(path);
+        if (path.toFile().exists()) {
+            try {
+                List<IndexedTrack> tracks = new ObjectMapper().readValue(path.toFile(), new TypeReference<List<IndexedTrack>>() {
+                });
+                tracks.forEach(t -> playlistIndex.entries.put(t.getFingerprint().getPath(), t.toEntry()));
+                log.info("Playlist index loaded with {} entries", tracks.size());
+            } catch (IOException e) {
+                log.error("Could not load playlist index", e);
+            }
+        }
+        return playlistIndex;
+    }
+
+    Optional<Mp3> get(FileFingerprint fingerprint) {
+        PlaylistIndexEntry entry = entries.get(fingerprint.getPath());
+        if (entry != null && fingerprint.isSameContent(entry.getFingerprint())) {
+            return Optional.of(entry.getMp3());
+        }
+        return Optional.empty();
+    }
+
+    Collection<PlaylistIndexEntry> getEntries() {
+        return entries.values();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    void save(Collection<PlaylistIndexEntry> newEntries) {
+        entries.clear();
+        newEntries.forEach(e -> entries.put(e.getFingerprint().getPath(), e));
+        List<IndexedTrack> tracks = newEntries.stream().map(IndexedTrack::from).collect(Collectors.toList());
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+            new ObjectMapper().writeValue(temporaryPath.toFile(), tracks);
+            Files.move(temporaryPath, path, REPLACE_EXISTING, ATOMIC_MOVE);
+            log.info("Playlist index saved with {} entries", newEntries.size());
+        } catch (IOException e) {
+            log.error("Could not save playlist index", e);
+        }
+    }
+}
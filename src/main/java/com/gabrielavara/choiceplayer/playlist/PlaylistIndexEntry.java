@@ -0,0 +1,14 @@
+package com.gabrielavara.choiceplayer.playlist;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PlaylistIndexEntry {
+    private FileFingerprint fingerprint;
+    private Mp3 mp3;
+    private boolean parsed;
+}
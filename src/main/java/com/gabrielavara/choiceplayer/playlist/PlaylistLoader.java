@@ -1,64 +1,147 @@
 package com.gabrielavara.choiceplayer.playlist;
 
+import static com.gabrielavara.choiceplayer.Constants.PLAYLIST_LOADER_BATCH_SIZE;
+import static com.gabrielavara.choiceplayer.Constants.PLAYLIST_LOADER_THREADS;
+
 import java.io.IOException;
 import java.nio.file.DirectoryIteratorException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.attribute.BasicFileAttributeView;
-import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.gabrielavara.choiceplayer.dto.Mp3;
+import com.gabrielavara.choiceplayer.tag.Id3TagReader;
+import com.gabrielavara.choiceplayer.tag.Id3Tags;
 import com.mpatric.mp3agic.InvalidDataException;
-import com.mpatric.mp3agic.Mp3File;
 import com.mpatric.mp3agic.UnsupportedTagException;
 
 public class PlaylistLoader {
     private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.playlist.PlaylistLoader");
 
+    private final PlaylistIndex playlistIndex;
+
+    public PlaylistLoader() {
+        this(PlaylistIndex.load());
+    }
+
+    PlaylistLoader(PlaylistIndex playlistIndex) {
+        this.playlistIndex = playlistIndex;
+    }
+
     public List<Mp3> load(Path folder) {
+        return load(folder, batch -> {
+        });
+    }
+
+    public List<Mp3> load(Path folder, Consumer<List<Mp3>> batchConsumer) {
         log.info("Start loading playlist");
         if (!folder.toFile().exists()) {
             return Collections.emptyList();
         }
         try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(folder)) {
-            Map<String, List<Mp3>> albums = getAlbums(directoryStream);
+            List<Path> paths = getMp3Paths(directoryStream);
+            List<PlaylistIndexEntry> entries = scan(paths, batchConsumer);
+            saveIndex(entries);
+            Map<String, List<PlaylistIndexEntry>> albums = getAlbums(entries);
             TreeMap<Double, List<Mp3>> sortedAlbums = getSortedAlbums(albums);
             List<Mp3> sortedPlaylist = getSortedPlaylist(sortedAlbums);
             log.info("Playlist loaded");
             return sortedPlaylist;
         } catch (IOException | DirectoryIteratorException e) {
             log.error("Could not find folder: {}. Message: {}", folder, e.getMessage());
+        } catch (InterruptedException e) {
+            log.info("Loading playlist interrupted");
+            Thread.currentThread().interrupt();
         }
         return Collections.emptyList();
     }
 
-    private Map<String, List<Mp3>> getAlbums(DirectoryStream<Path> directoryStream) {
-        Stream<Path> paths = StreamSupport.stream(directoryStream.spliterator(), false);
-        return paths.filter(isMp3()).map(PlaylistLoader::createMp3File).filter(Objects::nonNull).collect(Collectors.groupingBy(Mp3::getAlbum));
+    private List<Path> getMp3Paths(DirectoryStream<Path> directoryStream) {
+        return StreamSupport.stream(directoryStream.spliterator(), false).filter(isMp3()).collect(Collectors.toList());
     }
 
-    private TreeMap<Double, List<Mp3>> getSortedAlbums(Map<String, List<Mp3>> albums) {
+    private List<PlaylistIndexEntry> scan(List<Path> paths, Consumer<List<Mp3>> batchConsumer) throws InterruptedException {
+        ExecutorService executorService = createExecutorService();
+        try {
+            List<Future<PlaylistIndexEntry>> futures = paths.stream().map(path -> executorService.submit(() -> createEntry(path)))
+                    .collect(Collectors.toList());
+            List<PlaylistIndexEntry> entries = new ArrayList<>(futures.size());
+            List<Mp3> batch = new ArrayList<>(PLAYLIST_LOADER_BATCH_SIZE);
+            for (Future<PlaylistIndexEntry> future : futures) {
+                PlaylistIndexEntry entry = getEntry(future);
+                if (entry != null) {
+                    entries.add(entry);
+                    batch.add(entry.getMp3());
+                }
+                if (batch.size() == PLAYLIST_LOADER_BATCH_SIZE) {
+                    batchConsumer.accept(batch);
+                    batch = new ArrayList<>(PLAYLIST_LOADER_BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchConsumer.accept(batch);
+            }
+            return entries;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void saveIndex(List<PlaylistIndexEntry> entries) {
+        long parsed = entries.stream().filter(PlaylistIndexEntry::isParsed).count();
+        log.info("{} of {} files parsed, {} taken from index", parsed, entries.size(), entries.size() - parsed);
+        if (parsed > 0 || entries.size() != playlistIndex.size()) {
+            playlistIndex.save(entries);
+        }
+    }
+
+    private static ExecutorService createExecutorService() {
+        int threads = Math.min(PLAYLIST_LOADER_THREADS, Runtime.getRuntime().availableProcessors());
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r);
+            t.setName("Playlist loader thread " + t.getId());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private static PlaylistIndexEntry getEntry(Future<PlaylistIndexEntry> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            log.error("Could not load file. Message: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Map<String, List<PlaylistIndexEntry>> getAlbums(List<PlaylistIndexEntry> entries) {
+        return entries.stream().collect(Collectors.groupingBy(e -> e.getMp3().getAlbum()));
+    }
+
+    private TreeMap<Double, List<Mp3>> getSortedAlbums(Map<String, List<PlaylistIndexEntry>> albums) {
         TreeMap<Double, List<Mp3>> sortedAlbums = new TreeMap<>();
-        for (List<Mp3> tracks : albums.values()) {
-            Double averageTime = tracks.stream().map(PlaylistLoader::getCreationTime)
-                    .collect(Collectors.averagingLong(FileTime::toMillis));
-            sortedAlbums.put(averageTime, tracks);
+        for (List<PlaylistIndexEntry> entries : albums.values()) {
+            Double averageTime = entries.stream().collect(Collectors.averagingLong(e -> e.getFingerprint().getCreationTime()));
+            sortedAlbums.put(averageTime, entries.stream().map(PlaylistIndexEntry::getMp3).collect(Collectors.toList()));
         }
         return sortedAlbums;
     }
@@ -76,10 +159,26 @@ public class PlaylistLoader {
         return path -> path.getFileName().toString().endsWith(".mp3");
     }
 
+    private PlaylistIndexEntry createEntry(Path path) throws IOException {
+        FileFingerprint fingerprint = getFingerprint(path);
+        Optional<Mp3> indexed = playlistIndex.get(fingerprint);
+        if (indexed.isPresent()) {
+            return new PlaylistIndexEntry(fingerprint, indexed.get(), false);
+        }
+        Mp3 mp3 = createMp3File(path);
+        return mp3 != null ? new PlaylistIndexEntry(fingerprint, mp3, true) : null;
+    }
+
+    private static FileFingerprint getFingerprint(Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return new FileFingerprint(path.toString(), attributes.size(), attributes.lastModifiedTime().toMillis(),
+                attributes.creationTime().toMillis());
+    }
+
     private static Mp3 createMp3File(Path path) {
         try {
-            Mp3File mp3File = new Mp3File(path);
-            return new Mp3(mp3File);
+            Id3Tags tags = Id3TagReader.read(path);
+            return new Mp3(tags);
         } catch (IOException e) {
             log.error("Could not load file: {}. Message: {}", path, e.getMessage());
         } catch (UnsupportedTagException e) {
@@ -91,14 +190,4 @@ public class PlaylistLoader {
         }
         return null;
     }
-
-    private static FileTime getCreationTime(Mp3 mp3) {
-        try {
-            Path path = Paths.get(mp3.getFilename());
-            return Files.getFileAttributeView(path, BasicFileAttributeView.class).readAttributes().creationTime();
-        } catch (IOException e) {
-            log.error("Could not get creation time: {}", e.getMessage());
-            return FileTime.fromMillis(System.currentTimeMillis());
-        }
-    }
 }
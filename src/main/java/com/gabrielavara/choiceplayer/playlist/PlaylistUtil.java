@@ -7,9 +7,12 @@ import com.gabrielavara.choiceplayer.messages.PlaylistItemSelectedMessage;
 import com.gabrielavara.choiceplayer.messenger.Messenger;
 import com.gabrielavara.choiceplayer.util.Opinion;
 import com.gabrielavara.choiceplayer.views.PlaylistItemView;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.stream.Collectors;
@@ -18,9 +21,13 @@ import java.util.stream.IntStream;
 public class PlaylistUtil {
 
     private ObservableList<PlaylistItemView> playlistItems;
+    private final Map<String, Integer> filenameIndex = new HashMap<>();
+    private boolean filenameIndexValid;
+    private int currentIndex = -1;
 
     public PlaylistUtil(ObservableList<PlaylistItemView> playlistItems) {
         this.playlistItems = playlistItems;
+        playlistItems.addListener((ListChangeListener<PlaylistItemView>) c -> filenameIndexValid = false);
     }
 
     public List<Mp3> getPlayList() {
@@ -32,15 +39,60 @@ public class PlaylistUtil {
     }
 
     public Optional<PlaylistItemView> getCurrentlyPlayingPlaylistItemView() {
-        return playlistItems.stream().filter(s -> s.getMp3().isCurrentlyPlaying()).findFirst();
+        OptionalInt index = getCurrentlyPlayingIndex();
+        return index.isPresent() ? Optional.of(playlistItems.get(index.getAsInt())) : Optional.empty();
     }
 
     public Optional<PlaylistItemView> getPlaylistItemView(Mp3 mp3) {
-        return playlistItems.stream().filter(s -> mp3.equals(s.getMp3())).findFirst();
+        OptionalInt index = getPlaylistIndex(mp3);
+        return index.isPresent() ? Optional.of(playlistItems.get(index.getAsInt())) : Optional.empty();
     }
 
     public OptionalInt getPlaylistIndex(Mp3 mp3) {
-        return IntStream.range(0, playlistItems.size()).filter(i -> playlistItems.get(i).getMp3().equals(mp3)).findFirst();
+        Integer index = getFilenameIndex().get(mp3.getFilename());
+        if (index == null || !playlistItems.get(index).getMp3().equals(mp3)) {
+            OptionalInt found = IntStream.range(0, playlistItems.size()).filter(i -> playlistItems.get(i).getMp3().equals(mp3)).findFirst();
+            found.ifPresent(this::updateCurrentIndex);
+            return found;
+        }
+        updateCurrentIndex(index);
+        return OptionalInt.of(index);
+    }
+
+    private Map<String, Integer> getFilenameIndex() {
+        if (!filenameIndexValid) {
+            filenameIndex.clear();
+            for (int i = 0; i < playlistItems.size(); i++) {
+                filenameIndex.putIfAbsent(playlistItems.get(i).getMp3().getFilename(), i);
+            }
+            filenameIndexValid = true;
+        }
+        return filenameIndex;
+    }
+
+    private OptionalInt getCurrentlyPlayingIndex() {
+        if (isCurrentlyPlaying(currentIndex)) {
+            return OptionalInt.of(currentIndex);
+        }
+        if (isCurrentlyPlaying(currentIndex + 1)) {
+            return OptionalInt.of(++currentIndex);
+        }
+        if (isCurrentlyPlaying(currentIndex - 1)) {
+            return OptionalInt.of(--currentIndex);
+        }
+        OptionalInt found = IntStream.range(0, playlistItems.size()).filter(this::isCurrentlyPlaying).findFirst();
+        currentIndex = found.orElse(-1);
+        return found;
+    }
+
+    private void updateCurrentIndex(int index) {
+        if (isCurrentlyPlaying(index)) {
+            currentIndex = index;
+        }
+    }
+
+    private boolean isCurrentlyPlaying(int index) {
+        return 0 <= index && index < playlistItems.size() && playlistItems.get(index).getMp3().isCurrentlyPlaying();
     }
 
     public void goToNextTrack() {
@@ -53,7 +105,7 @@ public class PlaylistUtil {
     }
 
     public Optional<PlaylistItemView> getNextPlaylistItemView() {
-        OptionalInt first = IntStream.range(0, playlistItems.size()).filter(i -> playlistItems.get(i).getMp3().isCurrentlyPlaying()).findFirst();
+        OptionalInt first = getCurrentlyPlayingIndex();
         if (first.isPresent()) {
             int index = first.getAsInt();
             return playlistItems.size() > index + 1 ? Optional.of(playlistItems.get(index + 1)) : Optional.empty();
@@ -71,7 +123,7 @@ public class PlaylistUtil {
     }
 
     private Optional<PlaylistItemView> getPreviousPlaylistItemView() {
-        OptionalInt first = IntStream.range(0, playlistItems.size()).filter(i -> playlistItems.get(i).getMp3().isCurrentlyPlaying()).findFirst();
+        OptionalInt first = getCurrentlyPlayingIndex();
         if (first.isPresent()) {
             int index = first.getAsInt();
             return 0 <= index - 1 ? Optional.of(playlistItems.get(index - 1)) : Optional.empty();
@@ -0,0 +1,5 @@
+package com.gabrielavara.choiceplayer.settings;
+
+public enum BeatportClientType {
+    HTTP, CHROME
+}
@@ -9,4 +9,9 @@ public class Settings {
     private String likedFolder = "C:\\Music\\Liked";
     private boolean showToast = true;
     private boolean showAction = true;
+    private int prefetchSeconds = 10;
+    private int crossfadeMillis;
+    private BeatportClientType beatportClient = BeatportClientType.HTTP;
+    private int beatportSessions = 2;
+    private double beatportRequestsPerSecond = 1;
 }
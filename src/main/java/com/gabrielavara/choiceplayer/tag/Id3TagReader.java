@@ -0,0 +1,184 @@
+package com.gabrielavara.choiceplayer.tag;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import com.mpatric.mp3agic.BufferTools;
+import com.mpatric.mp3agic.ID3v1;
+import com.mpatric.mp3agic.ID3v1Tag;
+import com.mpatric.mp3agic.ID3v2;
+import com.mpatric.mp3agic.ID3v2TagFactory;
+import com.mpatric.mp3agic.InvalidDataException;
+import com.mpatric.mp3agic.MpegFrame;
+import com.mpatric.mp3agic.NoSuchTagException;
+import com.mpatric.mp3agic.UnsupportedTagException;
+
+public class Id3TagReader {
+    static final int ID3V2_HEADER_LENGTH = 10;
+    static final int ID3V2_FOOTER_LENGTH = 10;
+    static final int ID3V2_FOOTER_BIT = 0x10;
+    static final int ID3V1_TAG_LENGTH = 128;
+
+    private static final String ID3V2_TAG = "ID3";
+    private static final String ID3V1_TAG = "TAG";
+    private static final String XING = "Xing";
+    private static final String INFO = "Info";
+    private static final String VBRI = "VBRI";
+    private static final int VBRI_OFFSET = 36;
+    private static final int VBRI_FRAMES_OFFSET = 14;
+    private static final int XING_FRAMES_FLAG = 0x01;
+    private static final int FRAME_HEADER_LENGTH = 4;
+    private static final int FRAME_SEARCH_LENGTH = 16 * 1024;
+
+    private Id3TagReader() {
+    }
+
+    public static Id3Tags read(Path path) throws IOException, UnsupportedTagException, InvalidDataException {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            long fileSize = channel.size();
+            int id3v2TagLength = getId3v2TagLength(channel);
+            ID3v2 id3v2Tag = id3v2TagLength > 0 ? readId3v2Tag(channel, id3v2TagLength) : null;
+            ID3v1 id3v1Tag = readId3v1Tag(channel, fileSize);
+            long audioEnd = id3v1Tag != null ? fileSize - ID3V1_TAG_LENGTH : fileSize;
+            long length = estimateLength(channel, id3v2TagLength, audioEnd);
+            return new Id3Tags(path.toString(), id3v2Tag, id3v1Tag, length);
+        }
+    }
+
+    public static Optional<ID3v2> readId3v2Tag(Path path) throws IOException, UnsupportedTagException, InvalidDataException {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            int id3v2TagLength = getId3v2TagLength(channel);
+            return Optional.ofNullable(id3v2TagLength > 0 ? readId3v2Tag(channel, id3v2TagLength) : null);
+        }
+    }
+
+    static int getId3v2TagLength(FileChannel channel) throws IOException {
+        ByteBuffer header = read(channel, 0, ID3V2_HEADER_LENGTH);
+        if (header.remaining() < ID3V2_HEADER_LENGTH || !ID3V2_TAG.equals(getString(header, 0, ID3V2_TAG.length()))) {
+            return 0;
+        }
+        int dataLength = BufferTools.unpackSynchsafeInteger(header.get(6), header.get(7), header.get(8), header.get(9));
+        boolean footer = (header.get(5) & ID3V2_FOOTER_BIT) != 0;
+        return ID3V2_HEADER_LENGTH + dataLength + (footer ? ID3V2_FOOTER_LENGTH : 0);
+    }
+
+    private static ID3v2 readId3v2Tag(FileChannel channel, int length) throws IOException, UnsupportedTagException, InvalidDataException {
+        ByteBuffer buffer = read(channel, 0, length);
+        try {
+            return ID3v2TagFactory.createTag(buffer.array());
+        } catch (NoSuchTagException e) {
+            return null;
+        }
+    }
+
+    private static ID3v1 readId3v1Tag(FileChannel channel, long fileSize) throws IOException {
+        if (fileSize < ID3V1_TAG_LENGTH) {
+            return null;
+        }
+        ByteBuffer buffer = read(channel, fileSize - ID3V1_TAG_LENGTH, ID3V1_TAG_LENGTH);
+        if (!ID3V1_TAG.equals(getString(buffer, 0, ID3V1_TAG.length()))) {
+            return null;
+        }
+        try {
+            return new ID3v1Tag(buffer.array());
+        } catch (NoSuchTagException e) {
+            return null;
+        }
+    }
+
+    private static long estimateLength(FileChannel channel, long audioStart, long audioEnd) throws IOException, InvalidDataException {
+        int searchLength = (int) Math.min(FRAME_SEARCH_LENGTH, Math.max(0, audioEnd - audioStart));
+        ByteBuffer buffer = read(channel, audioStart, searchLength);
+        for (int offset = 0; offset + FRAME_HEADER_LENGTH <= buffer.limit(); offset++) {
+            MpegFrame frame = getFrame(buffer, offset);
+            if (frame != null) {
+                long frameCount = getFrameCount(buffer, offset, frame);
+                if (frameCount > 0) {
+                    return (long) (frameCount * getSamplesPerFrame(frame) * 1000.0 / frame.getSampleRate() + 0.5);
+                }
+                double audioBits = 8.0 * (audioEnd - audioStart - offset);
+                return (long) (audioBits / frame.getBitrate() + 0.5);
+            }
+        }
+        throw new InvalidDataException("No mpegs frames found");
+    }
+
+    private static MpegFrame getFrame(ByteBuffer buffer, int offset) {
+        if ((buffer.get(offset) & 0xFF) != 0xFF || (buffer.get(offset + 1) & 0xE0) != 0xE0) {
+            return null;
+        }
+        try {
+            MpegFrame frame = new MpegFrame(buffer.get(offset), buffer.get(offset + 1), buffer.get(offset + 2), buffer.get(offset + 3));
+            int next = offset + frame.getLengthInBytes();
+            if (next + FRAME_HEADER_LENGTH <= buffer.limit()
+                    && ((buffer.get(next) & 0xFF) != 0xFF || (buffer.get(next + 1) & 0xE0) != 0xE0)) {
+                return null;
+            }
+            return frame;
+        } catch (InvalidDataException e) {
+            return null;
+        }
+    }
+
+    private static long getFrameCount(ByteBuffer buffer, int frameOffset, MpegFrame frame) {
+        int xingOffset = frameOffset + FRAME_HEADER_LENGTH + getSideInformationLength(frame);
+        String xing = getString(buffer, xingOffset, XING.length());
+        if (XING.equals(xing) || INFO.equals(xing)) {
+            int flagsOffset = xingOffset + XING.length();
+            if (flagsOffset + 8 <= buffer.limit() && (buffer.getInt(flagsOffset) & XING_FRAMES_FLAG) != 0) {
+                return buffer.getInt(flagsOffset + 4) & 0xFFFFFFFFL;
+            }
+        }
+        int vbriOffset = frameOffset + VBRI_OFFSET;
+        if (VBRI.equals(getString(buffer, vbriOffset, VBRI.length())) && vbriOffset + VBRI_FRAMES_OFFSET + 4 <= buffer.limit()) {
+            return buffer.getInt(vbriOffset + VBRI_FRAMES_OFFSET) & 0xFFFFFFFFL;
+        }
+        return 0;
+    }
+
+    private static int getSideInformationLength(MpegFrame frame) {
+        boolean mono = MpegFrame.CHANNEL_MODE_MONO.equals(frame.getChannelMode());
+        if (MpegFrame.MPEG_VERSION_1_0.equals(frame.getVersion())) {
+            return mono ? 17 : 32;
+        }
+        return mono ? 9 : 17;
+    }
+
+    private static int getSamplesPerFrame(MpegFrame frame) {
+        if (MpegFrame.MPEG_LAYER_1.equals(frame.getLayer())) {
+            return 384;
+        }
+        if (MpegFrame.MPEG_LAYER_3.equals(frame.getLayer()) && !MpegFrame.MPEG_VERSION_1_0.equals(frame.getVersion())) {
+            return 576;
+        }
+        return 1152;
+    }
+
+    private static String getString(ByteBuffer buffer, int offset, int length) {
+        if (offset < 0 || offset + length > buffer.limit()) {
+            return "";
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, ISO_8859_1);
+    }
+
+    static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,120 @@
+package com.gabrielavara.choiceplayer.tag;
+
+import static com.gabrielavara.choiceplayer.tag.Id3TagReader.ID3V1_TAG_LENGTH;
+import static com.gabrielavara.choiceplayer.tag.Id3TagReader.ID3V2_FOOTER_BIT;
+import static com.gabrielavara.choiceplayer.tag.Id3TagReader.ID3V2_HEADER_LENGTH;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mpatric.mp3agic.ID3v1;
+import com.mpatric.mp3agic.ID3v2;
+import com.mpatric.mp3agic.NotSupportedException;
+
+public class Id3TagWriter {
+    private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.tag.Id3TagWriter");
+
+    static final int PADDING_LENGTH = 32 * 1024;
+
+    private static final int FLAGS_OFFSET = 5;
+    private static final int SIZE_OFFSET = 6;
+    private static final int EXTENDED_HEADER_BIT = 0x40;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private Id3TagWriter() {
+    }
+
+    /**
+     * Overwrites the ID3v2 tag in place when it fits in the space of the current tag, otherwise rewrites the file
+     * with {@link #PADDING_LENGTH} bytes of padding so that later changes fit. Returns whether the tag was written in
+     * place.
+     */
+    public static boolean write(Path path, ID3v2 id3v2Tag, ID3v1 id3v1Tag) throws IOException, NotSupportedException {
+        id3v2Tag.setPadding(false);
+        byte[] tag = id3v2Tag.toBytes();
+        int currentLength;
+        try (FileChannel channel = FileChannel.open(path, READ, WRITE)) {
+            currentLength = Id3TagReader.getId3v2TagLength(channel);
+            if (currentLength >= tag.length && canPad(tag) && canPad(Id3TagReader.read(channel, 0, ID3V2_HEADER_LENGTH).array())) {
+                writeFully(channel, 0, ByteBuffer.wrap(pad(tag, currentLength)));
+                writeId3v1Tag(channel, id3v1Tag);
+                log.info("Tags written in place: {}", path);
+                return true;
+            }
+        }
+        rewrite(path, currentLength, canPad(tag) ? pad(tag, tag.length + PADDING_LENGTH) : tag, id3v1Tag);
+        log.info("Tags written with a full rewrite: {}", path);
+        return false;
+    }
+
+    private static boolean canPad(byte[] tag) {
+        return tag.length >= ID3V2_HEADER_LENGTH && (tag[FLAGS_OFFSET] & (ID3V2_FOOTER_BIT | EXTENDED_HEADER_BIT)) == 0;
+    }
+
+    static byte[] pad(byte[] tag, int length) {
+        byte[] padded = Arrays.copyOf(tag, length);
+        int size = length - ID3V2_HEADER_LENGTH;
+        padded[SIZE_OFFSET] = (byte) ((size >> 21) & 0x7F);
+        padded[SIZE_OFFSET + 1] = (byte) ((size >> 14) & 0x7F);
+        padded[SIZE_OFFSET + 2] = (byte) ((size >> 7) & 0x7F);
+        padded[SIZE_OFFSET + 3] = (byte) (size & 0x7F);
+        return padded;
+    }
+
+    private static void writeId3v1Tag(FileChannel channel, ID3v1 id3v1Tag) throws IOException, NotSupportedException {
+        if (id3v1Tag == null) {
+            return;
+        }
+        long position = hasId3v1Tag(channel) ? channel.size() - ID3V1_TAG_LENGTH : channel.size();
+        writeFully(channel, position, ByteBuffer.wrap(id3v1Tag.toBytes()));
+    }
+
+    private static boolean hasId3v1Tag(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size < ID3V1_TAG_LENGTH) {
+            return false;
+        }
+        ByteBuffer buffer = Id3TagReader.read(channel, size - ID3V1_TAG_LENGTH, 3);
+        return buffer.remaining() == 3 && buffer.get(0) == 'T' && buffer.get(1) == 'A' && buffer.get(2) == 'G';
+    }
+
+    private static void rewrite(Path path, int currentLength, byte[] tag, ID3v1 id3v1Tag) throws IOException, NotSupportedException {
+        Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+        try (FileChannel source = FileChannel.open(path, READ);
+             FileChannel target = FileChannel.open(temporaryPath, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            long audioEnd = hasId3v1Tag(source) ? source.size() - ID3V1_TAG_LENGTH : source.size();
+            writeFully(target, 0, ByteBuffer.wrap(tag));
+            target.position(tag.length);
+            long position = currentLength;
+            while (position < audioEnd) {
+                position += source.transferTo(position, audioEnd - position, target);
+            }
+            if (id3v1Tag != null) {
+                writeFully(target, target.size(), ByteBuffer.wrap(id3v1Tag.toBytes()));
+            }
+        }
+        FileTime creationTime = Files.getFileAttributeView(path, BasicFileAttributeView.class).readAttributes().creationTime();
+        Files.move(temporaryPath, path, REPLACE_EXISTING);
+        Files.getFileAttributeView(path, BasicFileAttributeView.class).setTimes(FileTime.fromMillis(System.currentTimeMillis()), null, creationTime);
+    }
+
+    private static void writeFully(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+}
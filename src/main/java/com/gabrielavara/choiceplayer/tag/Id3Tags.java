@@ -0,0 +1,25 @@
+package com.gabrielavara.choiceplayer.tag;
+
+import com.mpatric.mp3agic.ID3v1;
+import com.mpatric.mp3agic.ID3v2;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class Id3Tags {
+    private final String filename;
+    private final ID3v2 id3v2Tag;
+    private final ID3v1 id3v1Tag;
+    private final long lengthInMilliseconds;
+
+    public boolean hasId3v2Tag() {
+        return id3v2Tag != null;
+    }
+
+    public boolean hasId3v1Tag() {
+        return id3v1Tag != null;
+    }
+}
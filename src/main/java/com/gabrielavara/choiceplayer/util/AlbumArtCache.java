@@ -0,0 +1,106 @@
+package com.gabrielavara.choiceplayer.util;
+
+import static com.gabrielavara.choiceplayer.Constants.ALBUM_ART_CACHE_MAX_BYTES;
+import static com.gabrielavara.choiceplayer.Constants.DEFAULT_ALBUM_ART;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import javafx.scene.image.Image;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+public class AlbumArtCache {
+    private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.util.AlbumArtCache");
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private static final Cache<Key, Image> cache = CacheBuilder.newBuilder()
+            .maximumWeight(ALBUM_ART_CACHE_MAX_BYTES)
+            .weigher((Key key, Image image) -> getWeight(image))
+            .recordStats()
+            .build();
+
+    private AlbumArtCache() {
+    }
+
+    public static Image getAlbumArt(Mp3 mp3, int size) {
+        Key key = new Key(mp3.getFilename(), getLastModified(mp3), size, false);
+        return get(key, () -> ThumbnailStore.getDefault().getAlbumArt(mp3, size)
+                .orElseGet(() -> ImageUtil.getAlbumArt(mp3.getAlbumArt(), size)), size);
+    }
+
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    public static Image getAlbumArt(Optional<byte[]> albumArtData, int size) {
+        if (!albumArtData.isPresent()) {
+            return ImageUtil.getDefaultImage(size);
+        }
+        byte[] data = albumArtData.get();
+        String hash = ThumbnailStore.hash(data);
+        return get(new Key(hash, 0, size, false), () -> ThumbnailStore.getDefault().getAlbumArt(hash, data, size), size);
+    }
+
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    public static Image getGrayScaleAlbumArt(Optional<byte[]> albumArtData, int size) {
+        String id = albumArtData.map(ThumbnailStore::hash).orElse(DEFAULT_ALBUM_ART);
+        return get(new Key(id, 0, size, true), () -> ImageUtil.getGrayScaleImage(getAlbumArt(albumArtData, size)), size);
+    }
+
+    static Image getGrayScaleAlbumArt(String hash, Image albumArt, int size) {
+        String id = ThumbnailStore.NO_ALBUM_ART.equals(hash) ? DEFAULT_ALBUM_ART : hash;
+        return get(new Key(id, 0, size, true), () -> ImageUtil.getGrayScaleImage(albumArt), size);
+    }
+
+    private static Image get(Key key, Callable<Image> loader, int size) {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException e) {
+            log.error("Could not load album art: {}", e.getMessage());
+            return ImageUtil.getDefaultImage(size);
+        }
+    }
+
+    public static long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public static long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public static CacheStats getStats() {
+        return cache.stats();
+    }
+
+    private static long getLastModified(Mp3 mp3) {
+        try {
+            return Files.getLastModifiedTime(Paths.get(mp3.getFilename())).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static int getWeight(Image image) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL);
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+        private final String id;
+        private final long lastModified;
+        private final int size;
+        private final boolean grayScale;
+    }
+}
@@ -6,18 +6,23 @@ import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javafx.scene.image.Image;
-import javafx.scene.image.PixelReader;
-import javafx.scene.image.PixelWriter;
 import javafx.scene.image.WritableImage;
-import javafx.scene.paint.Color;
+import javafx.scene.image.WritablePixelFormat;
 
 public class ImageUtil {
     private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.util.ImageUtil");
+    private static final int WEIGHT_SHIFT = 16;
+    private static final int RED_WEIGHT = 13763;
+    private static final int GREEN_WEIGHT = 46531;
+    private static final int BLUE_WEIGHT = 4588;
+    private static final int ROUNDING = 1 << (WEIGHT_SHIFT - 1);
+    private static final int PARALLEL_PIXEL_THRESHOLD = 256 * 1024;
     private static Image defaultImage;
 
     private ImageUtil() {
@@ -28,12 +33,8 @@ public class ImageUtil {
         return albumArtData.map(bytes -> new Image(new ByteArrayInputStream(bytes), size, size, true, false)).orElseGet(() -> getDefaultImage(size));
     }
 
-    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
-    public static Image getGrayScaleAlbumArt(Optional<byte[]> albumArtData, int size) {
-        return albumArtData.map(bytes -> {
-            Image image = new Image(new ByteArrayInputStream(bytes), size, size, true, false);
-            return getTransformedImage(image, ImageUtil::grayScaleColorTransformer);
-        }).orElseGet(() -> getTransformedImage(getDefaultImage(size), ImageUtil::grayScaleColorTransformer));
+    public static Image getGrayScaleImage(Image image) {
+        return getTransformedImage(image, ImageUtil::toGrayScale);
     }
 
     public static Image getDefaultImage(int size) {
@@ -47,25 +48,90 @@ public class ImageUtil {
         return defaultImage;
     }
 
-    private static Image getTransformedImage(Image original, ColorTransformer colorTransformer) {
-        WritableImage result = new WritableImage((int) original.getWidth(), (int) original.getHeight());
-        PixelWriter pixelWriter = result.getPixelWriter();
+    public static Image getBlurredImage(Image image, int radius, int iterations) {
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        int[] pixels = new int[width * height];
+        image.getPixelReader().getPixels(0, 0, width, height, WritablePixelFormat.getIntArgbInstance(), pixels, 0, width);
+        boxBlur(pixels, width, height, radius, iterations);
+        WritableImage result = new WritableImage(width, height);
+        result.getPixelWriter().setPixels(0, 0, width, height, WritablePixelFormat.getIntArgbInstance(), pixels, 0, width);
+        return result;
+    }
+
+    static void boxBlur(int[] pixels, int width, int height, int radius, int iterations) {
+        int[] buffer = new int[pixels.length];
+        for (int i = 0; i < iterations; i++) {
+            boxBlurLines(pixels, buffer, width, height, 1, width, radius);
+            boxBlurLines(buffer, pixels, height, width, width, 1, radius);
+        }
+    }
 
-        PixelReader pixelReader = original.getPixelReader();
-        for (int y = 0; y < original.getHeight(); y++) {
-            for (int x = 0; x < original.getWidth(); x++) {
-                Color color = pixelReader.getColor(x, y);
-                pixelWriter.setColor(x, y, colorTransformer.transformColor(color));
+    private static void boxBlurLines(int[] source, int[] target, int length, int lines, int step, int lineStep, int radius) {
+        int window = 2 * radius + 1;
+        for (int line = 0; line < lines; line++) {
+            int start = line * lineStep;
+            int a = 0;
+            int r = 0;
+            int g = 0;
+            int b = 0;
+            for (int i = -radius; i <= radius; i++) {
+                int argb = source[start + clamp(i, length) * step];
+                a += argb >>> 24;
+                r += (argb >> 16) & 0xFF;
+                g += (argb >> 8) & 0xFF;
+                b += argb & 0xFF;
+            }
+            for (int i = 0; i < length; i++) {
+                target[start + i * step] = ((a / window) << 24) | ((r / window) << 16) | ((g / window) << 8) | (b / window);
+                int outgoing = source[start + clamp(i - radius, length) * step];
+                int incoming = source[start + clamp(i + radius + 1, length) * step];
+                a += (incoming >>> 24) - (outgoing >>> 24);
+                r += ((incoming >> 16) & 0xFF) - ((outgoing >> 16) & 0xFF);
+                g += ((incoming >> 8) & 0xFF) - ((outgoing >> 8) & 0xFF);
+                b += (incoming & 0xFF) - (outgoing & 0xFF);
             }
         }
+    }
+
+    private static int clamp(int index, int length) {
+        return index < 0 ? 0 : Math.min(index, length - 1);
+    }
+
+    private static Image getTransformedImage(Image original, PixelTransformer pixelTransformer) {
+        int width = (int) original.getWidth();
+        int height = (int) original.getHeight();
+        int[] pixels = new int[width * height];
+        original.getPixelReader().getPixels(0, 0, width, height, WritablePixelFormat.getIntArgbInstance(), pixels, 0, width);
+
+        if (pixels.length < PARALLEL_PIXEL_THRESHOLD) {
+            pixelTransformer.transform(pixels, 0, pixels.length);
+        } else {
+            int rowsPerChunk = Math.max(1, PARALLEL_PIXEL_THRESHOLD / width);
+            int chunks = (height + rowsPerChunk - 1) / rowsPerChunk;
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                int from = chunk * rowsPerChunk * width;
+                pixelTransformer.transform(pixels, from, Math.min(pixels.length, from + rowsPerChunk * width));
+            });
+        }
+
+        WritableImage result = new WritableImage(width, height);
+        result.getPixelWriter().setPixels(0, 0, width, height, WritablePixelFormat.getIntArgbInstance(), pixels, 0, width);
         return result;
     }
 
-    private static Color grayScaleColorTransformer(Color color) {
-        return color.grayscale();
+    static void toGrayScale(int[] pixels, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int argb = pixels[i];
+            int r = (argb >> 16) & 0xFF;
+            int g = (argb >> 8) & 0xFF;
+            int b = argb & 0xFF;
+            int gray = (RED_WEIGHT * r + GREEN_WEIGHT * g + BLUE_WEIGHT * b + ROUNDING) >> WEIGHT_SHIFT;
+            pixels[i] = (argb & 0xFF000000) | (gray << 16) | (gray << 8) | gray;
+        }
     }
 
-    private interface ColorTransformer {
-        Color transformColor(Color color);
+    private interface PixelTransformer {
+        void transform(int[] pixels, int from, int to);
     }
 }
@@ -0,0 +1,112 @@
+package com.gabrielavara.choiceplayer.util;
+
+import static com.gabrielavara.choiceplayer.Constants.BACKGROUND_BLUR_ITERATIONS;
+import static com.gabrielavara.choiceplayer.Constants.BACKGROUND_BLUR_RADIUS;
+import static com.gabrielavara.choiceplayer.Constants.BACKGROUND_IMAGE_SIZE;
+import static com.gabrielavara.choiceplayer.Constants.BIG_ALBUM_ART_SIZE;
+import static com.gabrielavara.choiceplayer.Constants.RENDER_VARIANT_CACHE_SIZE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+
+import javafx.scene.image.Image;
+
+public class RenderVariantPipeline {
+    private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.util.RenderVariantPipeline");
+
+    private static RenderVariantPipeline defaultPipeline;
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r);
+        t.setName("Render variant thread " + t.getId());
+        t.setDaemon(true);
+        return t;
+    });
+    private final Map<String, CompletableFuture<RenderVariants>> variants = new LinkedHashMap<String, CompletableFuture<RenderVariants>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<RenderVariants>> eldest) {
+            return size() > RENDER_VARIANT_CACHE_SIZE;
+        }
+    };
+
+    RenderVariantPipeline() {
+    }
+
+    public static synchronized RenderVariantPipeline getDefault() {
+        if (defaultPipeline == null) {
+            defaultPipeline = new RenderVariantPipeline();
+        }
+        return defaultPipeline;
+    }
+
+    public synchronized CompletableFuture<RenderVariants> get(Mp3 mp3) {
+        String key = mp3.getFilename() + "|" + getLastModified(mp3);
+        CompletableFuture<RenderVariants> future = variants.get(key);
+        if (future == null || future.isCompletedExceptionally()) {
+            future = CompletableFuture.supplyAsync(() -> render(mp3), executorService);
+            variants.put(key, future);
+        }
+        return future;
+    }
+
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    public void prefetch(Optional<Mp3> mp3) {
+        mp3.ifPresent(this::get);
+    }
+
+    /**
+     * Renders from the thumbnail store when its index knows the cover, and reads the MP3 only when it does not.
+     */
+    static RenderVariants render(Mp3 mp3) {
+        ThumbnailStore thumbnailStore = ThumbnailStore.getDefault();
+        Optional<String> hash = thumbnailStore.getHash(mp3);
+        Optional<Image> albumArt = hash.flatMap(h -> thumbnailStore.getAlbumArt(h, BIG_ALBUM_ART_SIZE));
+        if (!albumArt.isPresent()) {
+            return render(mp3.getAlbumArt());
+        }
+        Image grayScaleAlbumArt = AlbumArtCache.getGrayScaleAlbumArt(hash.get(), albumArt.get(), BIG_ALBUM_ART_SIZE);
+        Image background = thumbnailStore.getScaledAlbumArt(hash.get(), BACKGROUND_IMAGE_SIZE)
+                .map(RenderVariantPipeline::renderBackground).orElse(null);
+        return new RenderVariants(albumArt.get(), grayScaleAlbumArt, background);
+    }
+
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    static RenderVariants render(Optional<byte[]> albumArtData) {
+        Image albumArt = AlbumArtCache.getAlbumArt(albumArtData, BIG_ALBUM_ART_SIZE);
+        Image grayScaleAlbumArt = AlbumArtCache.getGrayScaleAlbumArt(albumArtData, BIG_ALBUM_ART_SIZE);
+        Image background = albumArtData.map(RenderVariantPipeline::renderBackground).orElse(null);
+        return new RenderVariants(albumArt, grayScaleAlbumArt, background);
+    }
+
+    private static Image renderBackground(byte[] albumArtData) {
+        return renderBackground(ImageUtil.getAlbumArt(Optional.of(albumArtData), BACKGROUND_IMAGE_SIZE));
+    }
+
+    private static Image renderBackground(Image image) {
+        if (image.isError()) {
+            log.error("Could not decode background image: {}", image.getException().getMessage());
+            return null;
+        }
+        return ImageUtil.getBlurredImage(image, BACKGROUND_BLUR_RADIUS, BACKGROUND_BLUR_ITERATIONS);
+    }
+
+    private static long getLastModified(Mp3 mp3) {
+        try {
+            return Files.getLastModifiedTime(Paths.get(mp3.getFilename())).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
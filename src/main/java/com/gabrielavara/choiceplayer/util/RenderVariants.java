@@ -0,0 +1,20 @@
+package com.gabrielavara.choiceplayer.util;
+
+import java.util.Optional;
+
+import javafx.scene.image.Image;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+public class RenderVariants {
+    @Getter
+    private final Image albumArt;
+    @Getter
+    private final Image grayScaleAlbumArt;
+    private final Image background;
+
+    public Optional<Image> getBackground() {
+        return Optional.ofNullable(background);
+    }
+}
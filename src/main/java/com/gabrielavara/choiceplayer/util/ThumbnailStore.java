@@ -0,0 +1,291 @@
+package com.gabrielavara.choiceplayer.util;
+
+import static com.gabrielavara.choiceplayer.Constants.ALBUM_ART_SIZE;
+import static com.gabrielavara.choiceplayer.Constants.BIG_ALBUM_ART_SIZE;
+import static com.gabrielavara.choiceplayer.Constants.THUMBNAIL_STORE_FOLDER;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import javax.imageio.ImageIO;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabrielavara.choiceplayer.dto.Mp3;
+import com.gabrielavara.choiceplayer.tag.Id3TagReader;
+import com.google.common.hash.Hashing;
+import com.mpatric.mp3agic.ID3v2;
+
+import javafx.scene.image.Image;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class ThumbnailStore {
+    private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.util.ThumbnailStore");
+    private static final String INDEX_JSON = "index.json";
+    private static final String PNG = "png";
+    private static final int[] SIZES = {ALBUM_ART_SIZE, BIG_ALBUM_ART_SIZE};
+    static final String NO_ALBUM_ART = "";
+
+    private static ThumbnailStore defaultStore;
+
+    private final Path directory;
+    private final Map<String, IndexEntry> index = new ConcurrentHashMap<>();
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r);
+        t.setName("Thumbnail store thread " + t.getId());
+        t.setDaemon(true);
+        return t;
+    });
+
+    ThumbnailStore(Path directory) {
+        this.directory = directory;
+        loadIndex();
+    }
+
+    public static synchronized ThumbnailStore getDefault() {
+        if (defaultStore == null) {
+            defaultStore = new ThumbnailStore(Paths.get(THUMBNAIL_STORE_FOLDER));
+        }
+        return defaultStore;
+    }
+
+    public Optional<Image> getAlbumArt(Mp3 mp3, int size) {
+        return getHash(mp3).flatMap(hash -> getAlbumArt(hash, size));
+    }
+
+    Optional<Image> getAlbumArt(String hash, int size) {
+        if (NO_ALBUM_ART.equals(hash)) {
+            return Optional.of(ImageUtil.getDefaultImage(size));
+        }
+        return getThumbnailPath(hash, size).map(ThumbnailStore::loadImage);
+    }
+
+    /**
+     * Loads the biggest thumbnail scaled to {@code requestedSize}, for renders that are larger than any stored size.
+     */
+    Optional<Image> getScaledAlbumArt(String hash, int requestedSize) {
+        return getThumbnailPath(hash, BIG_ALBUM_ART_SIZE)
+                .map(path -> new Image(path.toUri().toString(), requestedSize, requestedSize, true, true));
+    }
+
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    public Image getAlbumArt(Optional<byte[]> albumArtData, int size) {
+        return albumArtData.map(data -> getAlbumArt(hash(data), data, size)).orElseGet(() -> ImageUtil.getDefaultImage(size));
+    }
+
+    Image getAlbumArt(String hash, byte[] albumArtData, int size) {
+        Optional<Path> thumbnailPath = getThumbnailPath(hash, size);
+        if (!thumbnailPath.isPresent() && writeThumbnails(hash, albumArtData)) {
+            thumbnailPath = getThumbnailPath(hash, size);
+        }
+        return thumbnailPath.map(ThumbnailStore::loadImage).orElseGet(() -> ImageUtil.getAlbumArt(Optional.of(albumArtData), size));
+    }
+
+    public void fillInBackground(List<Mp3> mp3Files) {
+        executorService.submit(() -> fill(mp3Files));
+    }
+
+    void fill(List<Mp3> mp3Files) {
+        log.info("Fill thumbnail store");
+        int stored = 0;
+        for (Mp3 mp3 : mp3Files) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            if (!isStored(mp3) && store(mp3)) {
+                stored++;
+            }
+        }
+        int removed = removeMissingFiles();
+        if (stored > 0 || removed > 0) {
+            saveIndex();
+        }
+        log.info("Thumbnail store filled, {} new entries, {} removed", stored, removed);
+    }
+
+    Optional<String> getHash(Mp3 mp3) {
+        IndexEntry entry = index.get(mp3.getFilename());
+        if (entry == null || entry.getLastModified() != getLastModified(mp3.getFilename())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.getHash());
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    Optional<Path> getThumbnailPath(String hash, int size) {
+        Path path = directory.resolve(hash + "_" + size + "." + PNG);
+        return path.toFile().exists() ? Optional.of(path) : Optional.empty();
+    }
+
+    private boolean isStored(Mp3 mp3) {
+        Optional<String> hash = getHash(mp3);
+        return hash.isPresent() && (NO_ALBUM_ART.equals(hash.get()) || getThumbnailPath(hash.get(), BIG_ALBUM_ART_SIZE).isPresent());
+    }
+
+    private boolean store(Mp3 mp3) {
+        String filename = mp3.getFilename();
+        long lastModified = getLastModified(filename);
+        try {
+            Optional<byte[]> albumArtData = Id3TagReader.readId3v2Tag(Paths.get(filename)).map(ID3v2::getAlbumImage);
+            if (!albumArtData.isPresent()) {
+                index.put(filename, new IndexEntry(lastModified, NO_ALBUM_ART));
+                return true;
+            }
+            String hash = hash(albumArtData.get());
+            if (getThumbnailPath(hash, BIG_ALBUM_ART_SIZE).isPresent() || writeThumbnails(hash, albumArtData.get())) {
+                index.put(filename, new IndexEntry(lastModified, hash));
+                return true;
+            }
+        } catch (Exception e) {
+            log.error("Could not store thumbnails for {}: {}", filename, e.getMessage());
+        }
+        return false;
+    }
+
+    private boolean writeThumbnails(String hash, byte[] albumArtData) {
+        try {
+            BufferedImage original = ImageIO.read(new ByteArrayInputStream(albumArtData));
+            if (original == null) {
+                return false;
+            }
+            Files.createDirectories(directory);
+            for (int size : SIZES) {
+                Path path = directory.resolve(hash + "_" + size + "." + PNG);
+                Path temporaryPath = Files.createTempFile(directory, hash + "_" + size, ".tmp");
+                try {
+                    ImageIO.write(scale(original, size), PNG, temporaryPath.toFile());
+                    Files.move(temporaryPath, path, REPLACE_EXISTING, ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temporaryPath);
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            log.error("Could not write thumbnails: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    static BufferedImage scale(BufferedImage original, int size) {
+        double ratio = Math.min(1.0, Math.min((double) size / original.getWidth(), (double) size / original.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(original.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(original.getHeight() * ratio));
+        int type = original.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage scaled = original;
+        int width = original.getWidth();
+        int height = original.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage step = new BufferedImage(width, height, type);
+            Graphics2D graphics = step.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(scaled, 0, 0, width, height, null);
+            graphics.dispose();
+            scaled = step;
+        } while (width != targetWidth || height != targetHeight);
+        return scaled;
+    }
+
+    static String hash(byte[] data) {
+        return Hashing.sha256().hashBytes(data).toString();
+    }
+
+    private static Image loadImage(Path path) {
+        return new Image(path.toUri().toString());
+    }
+
+    private static long getLastModified(String filename) {
+        try {
+            return Files.getLastModifiedTime(Paths.get(filename)).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private int removeMissingFiles() {
+        List<String> removedHashes = new ArrayList<>();
+        index.entrySet().removeIf(e -> {
+            if (Files.exists(Paths.get(e.getKey()))) {
+                return false;
+            }
+            removedHashes.add(e.getValue().getHash());
+            return true;
+        });
+        Set<String> usedHashes = index.values().stream().map(IndexEntry::getHash).collect(Collectors.toSet());
+        removedHashes.stream()
+                .filter(hash -> !NO_ALBUM_ART.equals(hash) && !usedHashes.contains(hash))
+                .distinct()
+                .forEach(this::deleteThumbnails);
+        return removedHashes.size();
+    }
+
+    private void deleteThumbnails(String hash) {
+        for (int size : SIZES) {
+            try {
+                Files.deleteIfExists(directory.resolve(hash + "_" + size + "." + PNG));
+            } catch (IOException e) {
+                log.error("Could not delete thumbnail {}: {}", hash, e.getMessage());
+            }
+        }
+    }
+
+    private void loadIndex() {
+        Path path = directory.resolve(INDEX_JSON);
+        if (path.toFile().exists()) {
+            try {
+                Map<String, IndexEntry> entries = new ObjectMapper().readValue(path.toFile(), new TypeReference<Map<String, IndexEntry>>() {
+                });
+                index.putAll(entries);
+            } catch (IOException e) {
+                log.error("Could not load thumbnail store index", e);
+            }
+        }
+    }
+
+    private synchronized void saveIndex() {
+        Path path = directory.resolve(INDEX_JSON);
+        Path temporaryPath = directory.resolve(INDEX_JSON + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            new ObjectMapper().writeValue(temporaryPath.toFile(), index);
+            Files.move(temporaryPath, path, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("Could not save thumbnail store index", e);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class IndexEntry {
+        private long lastModified;
+        private String hash;
+    }
+}
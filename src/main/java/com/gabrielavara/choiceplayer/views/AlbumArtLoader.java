@@ -0,0 +1,149 @@
+package com.gabrielavara.choiceplayer.views;
+
+import static com.gabrielavara.choiceplayer.Constants.ALBUM_ART_SIZE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+import com.gabrielavara.choiceplayer.util.AlbumArtCache;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+
+class AlbumArtLoader {
+    private static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.views.AlbumArtLoader");
+
+    private final ThreadPoolExecutor executor;
+    private final Function<Mp3, Image> decoder;
+    private final Executor callbackExecutor;
+    private final Map<String, Request> inFlight = new HashMap<>();
+    private long sequence;
+
+    AlbumArtLoader(int threads) {
+        this(threads, mp3 -> AlbumArtCache.getAlbumArt(mp3, ALBUM_ART_SIZE), Platform::runLater);
+    }
+
+    AlbumArtLoader(int threads, Function<Mp3, Image> decoder, Executor callbackExecutor) {
+        this.decoder = decoder;
+        this.callbackExecutor = callbackExecutor;
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(), r -> {
+            Thread t = new Thread(r);
+            t.setName("Album art loader thread " + t.getId());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    Subscription load(Mp3 mp3, Consumer<Image> onLoaded) {
+        Request request = submit(mp3, true);
+        Subscription subscription = new Subscription(request, onLoaded);
+        request.subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Decodes the album art of a track that is not visible yet, after every pending visible request.
+     */
+    void prefetch(Mp3 mp3) {
+        submit(mp3, false);
+    }
+
+    private Request submit(Mp3 mp3, boolean visible) {
+        String key = mp3.getFilename();
+        Request request = inFlight.get(key);
+        if (request == null) {
+            request = new Request(key, mp3, visible, ++sequence);
+            inFlight.put(key, request);
+            executor.execute(request);
+        } else if (visible && executor.remove(request)) {
+            request.visible = true;
+            request.priority = ++sequence;
+            executor.execute(request);
+        }
+        return request;
+    }
+
+    private void loaded(Request request, Image image) {
+        inFlight.remove(request.key, request);
+        request.subscriptions.forEach(s -> s.onLoaded.accept(image));
+        request.subscriptions.clear();
+    }
+
+    private void failed(Request request) {
+        inFlight.remove(request.key, request);
+        request.subscriptions.clear();
+    }
+
+    private void cancel(Subscription subscription) {
+        Request request = subscription.request;
+        if (request.subscriptions.remove(subscription) && request.subscriptions.isEmpty()) {
+            inFlight.remove(request.key, request);
+            executor.remove(request);
+            request.cancelled = true;
+        }
+    }
+
+    class Subscription {
+        private final Request request;
+        private final Consumer<Image> onLoaded;
+
+        private Subscription(Request request, Consumer<Image> onLoaded) {
+            this.request = request;
+            this.onLoaded = onLoaded;
+        }
+
+        void cancel() {
+            AlbumArtLoader.this.cancel(this);
+        }
+    }
+
+    private class Request implements Runnable, Comparable<Request> {
+        private final String key;
+        private final Mp3 mp3;
+        private final List<Subscription> subscriptions = new ArrayList<>();
+        private volatile boolean visible;
+        private volatile long priority;
+        private volatile boolean cancelled;
+
+        private Request(String key, Mp3 mp3, boolean visible, long priority) {
+            this.key = key;
+            this.mp3 = mp3;
+            this.visible = visible;
+            this.priority = priority;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            try {
+                Image image = decoder.apply(mp3);
+                callbackExecutor.execute(() -> loaded(this, image));
+            } catch (RuntimeException e) {
+                log.error("Could not load album art for {}: {}", key, e.getMessage());
+                callbackExecutor.execute(() -> failed(this));
+            }
+        }
+
+        @Override
+        public int compareTo(Request other) {
+            if (visible != other.visible) {
+                return visible ? -1 : 1;
+            }
+            return Long.compare(other.priority, priority);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.gabrielavara.choiceplayer.views;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import static com.gabrielavara.choiceplayer.Constants.ALBUM_ART_LOADER_THREADS;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,17 +15,13 @@ import lombok.Getter;
 public class PlaylistCell extends ListCell<PlaylistItemView> {
     protected static Logger log = LoggerFactory.getLogger("com.gabrielavara.choiceplayer.views.PlaylistCell");
 
-    private static final ExecutorService executorService = Executors.newFixedThreadPool(10, r -> {
-        Thread t = new Thread(r);
-        t.setName("Album art loader thread " + t.getId());
-        t.setDaemon(true);
-        return t;
-    });
+    private static final AlbumArtLoader albumArtLoader = new AlbumArtLoader(ALBUM_ART_LOADER_THREADS);
 
     @Getter
     private PlaylistItem playlistItem;
     @Getter
     private PlaylistItemView playlistItemView;
+    private AlbumArtLoader.Subscription albumArtSubscription;
 
     private ChangeListener<Boolean> changedPropertyListener = (ov, oldValue, newValue) -> changed(newValue);
 
@@ -50,12 +45,14 @@ public class PlaylistCell extends ListCell<PlaylistItemView> {
         }
         playlistItemView = item;
         if (empty) {
+            cancelAlbumArtLoading();
             setGraphic(null);
         } else {
             playlistItem = createPlaylistItem(item);
             setGraphic(playlistItem);
             playlistItem.setState(playlistItemView.getMp3().isCurrentlyPlaying());
             loadAlbumArt(item);
+            prefetchNextAlbumArt();
         }
     }
 
@@ -69,10 +66,23 @@ public class PlaylistCell extends ListCell<PlaylistItemView> {
     }
 
     private void loadAlbumArt(PlaylistItemView item) {
-        Mp3 mp3 = item.getMp3();
-        AlbumArtLoaderTask task = new AlbumArtLoaderTask(mp3);
-        task.setOnSucceeded(e -> playlistItem.getAlbumArt().setImage(task.getValue()));
-        executorService.submit(task);
+        cancelAlbumArtLoading();
+        PlaylistItem target = playlistItem;
+        albumArtSubscription = albumArtLoader.load(item.getMp3(), image -> target.getAlbumArt().setImage(image));
+    }
+
+    private void prefetchNextAlbumArt() {
+        int next = getIndex() + 1;
+        if (getListView() != null && next < getListView().getItems().size()) {
+            albumArtLoader.prefetch(getListView().getItems().get(next).getMp3());
+        }
+    }
+
+    private void cancelAlbumArtLoading() {
+        if (albumArtSubscription != null) {
+            albumArtSubscription.cancel();
+            albumArtSubscription = null;
+        }
     }
 
     public void changeTheme() {
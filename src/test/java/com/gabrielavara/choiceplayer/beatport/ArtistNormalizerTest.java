@@ -0,0 +1,76 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+public class ArtistNormalizerTest {
+    private static final String[] ARTISTS = {
+            "Above & Beyond",
+            "Above and Beyond feat. Richard Bedford",
+            "Armin van Buuren Ft Trevor Guthrie",
+            "Tiesto vs Dzeko & Torres",
+            "Andrew Rayel With Jonathan Mendelsohn",
+            "Markus Schulz pres. Dakota",
+            "Gabriel, Dresden And Betsie Larkin",
+            "A feat With B",
+            "A ft. vs B",
+            "A Ft.And B",
+            "Bandana & Andy",
+            "No separators here",
+            ""};
+
+    @Test
+    public void testNormalizeSameAsSequentialReplace() {
+        for (String artist : ARTISTS) {
+            // when
+            String normalized = ArtistNormalizer.normalize(artist, false);
+            String commaAsAnd = ArtistNormalizer.normalize(artist, true);
+
+            // then
+            assertEquals(artist, replaceSequentially(artist, false), normalized);
+            assertEquals(artist, replaceSequentially(artist, true), commaAsAnd);
+        }
+    }
+
+    @Test
+    public void testRemoveSeparatorsSameAsSequentialReplace() {
+        for (String artist : ARTISTS) {
+            // when
+            String sanitized = ArtistNormalizer.removeSeparators(artist);
+
+            // then
+            String expected = artist;
+            for (Pattern pattern : RegexPattern.getAll()) {
+                expected = pattern.matcher(expected).replaceAll(" ");
+            }
+            assertEquals(artist, expected, sanitized);
+        }
+    }
+
+    @Test
+    public void testRemoveTrailingSeparators() {
+        assertEquals("Sun & Moon", ArtistNormalizer.removeTrailingSeparators("Sun & Moon feat."));
+        assertEquals("Sun & Moon", ArtistNormalizer.removeTrailingSeparators("Sun & Moon with feat"));
+        assertEquals("Sun & Moon feat", ArtistNormalizer.removeTrailingSeparators("Sun & Moon feat with"));
+        assertEquals("Sun & Moon", ArtistNormalizer.removeTrailingSeparators("Sun & Moon"));
+    }
+
+    @Test
+    public void testRepeatedSeparatorsSharingASpaceAreAllNormalized() {
+        assertEquals("A & & B", ArtistNormalizer.normalize("A and And B", false));
+    }
+
+    private static String replaceSequentially(String artist, boolean commaAsAnd) {
+        String result = artist;
+        for (RegexPattern regexPattern : RegexPattern.values()) {
+            for (Pattern pattern : regexPattern.getPatterns()) {
+                String replaceWith = regexPattern == RegexPattern.COMMA && commaAsAnd ? " & " : regexPattern.getReplaceWith();
+                result = pattern.matcher(result).replaceAll(replaceWith);
+            }
+        }
+        return result;
+    }
+}
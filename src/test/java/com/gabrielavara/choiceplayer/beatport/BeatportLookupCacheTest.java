@@ -0,0 +1,132 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gabrielavara.choiceplayer.beatport.BeatportLookupCache.CacheEntry;
+import com.gabrielavara.choiceplayer.dto.Mp3;
+
+public class BeatportLookupCacheTest {
+    private static final String SEARCH_URL = "http://classic.beatport.com/search?query=a";
+    private static final String ALBUM_URL = "http://classic.beatport.com/release/a/1";
+    private static final long TTL = 1000;
+    private static final long NOT_FOUND_TTL = 100;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final AtomicLong now = new AtomicLong(10000);
+
+    private BeatportLookupCache createCache(int maxSize) {
+        Path file = temporaryFolder.getRoot().toPath().resolve("beatportCache.json");
+        return new BeatportLookupCache(file, maxSize, TTL, NOT_FOUND_TTL, now::get);
+    }
+
+    @Test
+    public void testEntriesSurviveRestart() {
+        // given
+        BeatportLookupCache cache = createCache(10);
+        BeatportRelease release = new BeatportRelease(singletonList("Artist"), "Album", ALBUM_URL);
+        cache.putReleases(SEARCH_URL, new BeatportReleases(singletonList(release)));
+        BeatportAlbum album = new BeatportAlbum();
+        album.setTitle("Album");
+        album.addTrack(new BeatportTrack("1", singletonList("Artist"), "Title", "Original Mix", singletonList("Trance"), 138, 400));
+        cache.putAlbum(ALBUM_URL, album);
+
+        // when
+        cache.save();
+        BeatportLookupCache reloaded = createCache(10);
+
+        // then
+        assertEquals(2, reloaded.size());
+        assertEquals(singletonList(release), reloaded.get(SEARCH_URL).map(CacheEntry::getReleases).map(BeatportReleases::getReleases).orElse(null));
+        assertEquals(album, reloaded.get(ALBUM_URL).map(CacheEntry::getAlbum).orElse(null));
+    }
+
+    @Test
+    public void testNotFoundEntriesExpireSooner() {
+        // given
+        BeatportLookupCache cache = createCache(10);
+        cache.putReleases(SEARCH_URL, new BeatportReleases(emptyList()));
+        cache.putNotFound(ALBUM_URL);
+        cache.putAlbum("found", new BeatportAlbum());
+
+        // when
+        now.addAndGet(NOT_FOUND_TTL + 1);
+
+        // then
+        assertFalse(cache.get(SEARCH_URL).isPresent());
+        assertFalse(cache.get(ALBUM_URL).isPresent());
+        assertTrue(cache.get("found").isPresent());
+        now.addAndGet(TTL);
+        assertFalse(cache.get("found").isPresent());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvicted() {
+        // given
+        BeatportLookupCache cache = createCache(2);
+        cache.putNotFound("first");
+        cache.putNotFound("second");
+        cache.get("first");
+
+        // when
+        cache.putNotFound("third");
+
+        // then
+        assertEquals(2, cache.size());
+        assertTrue(cache.get("first").isPresent());
+        assertFalse(cache.get("second").isPresent());
+    }
+
+    @Test
+    public void testCachingClientDoesNotRepeatLookups() {
+        // given
+        CountingClient counting = new CountingClient();
+        CachingBeatportClient client = new CachingBeatportClient(counting, createCache(10));
+        Mp3 mp3 = new Mp3();
+        mp3.setArtist("Artist");
+        mp3.setAlbum("Album");
+        BeatportRelease release = new BeatportRelease(singletonList("Artist"), "Album", ALBUM_URL);
+
+        // when
+        client.searchReleases(mp3);
+        client.searchReleases(mp3);
+        client.getAlbum(release);
+        client.getAlbum(release);
+
+        // then
+        assertEquals(2, counting.calls.get());
+    }
+
+    private static class CountingClient implements BeatportClient {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public BeatportReleases searchReleases(Mp3 mp3) {
+            calls.incrementAndGet();
+            return new BeatportReleases(emptyList());
+        }
+
+        @Override
+        public BeatportAlbum getAlbum(BeatportRelease release) {
+            calls.incrementAndGet();
+            return new BeatportAlbum();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
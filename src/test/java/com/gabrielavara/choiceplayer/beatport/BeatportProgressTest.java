@@ -0,0 +1,46 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.gabrielavara.choiceplayer.messages.SnackBarMessage;
+
+public class BeatportProgressTest {
+    private static final long START = 1000;
+
+    @Test
+    public void testThroughputAndRemainingTime() {
+        // given
+        BeatportProgress progress = new BeatportProgress(100, START);
+        for (int i = 0; i < 20; i++) {
+            progress.complete();
+        }
+        long now = START + TimeUnit.MINUTES.toNanos(2);
+
+        // when
+        double tracksPerMinute = progress.getTracksPerMinute(now);
+        int remainingSeconds = progress.getRemainingSeconds(now);
+        SnackBarMessage message = progress.toSnackBarMessage(now);
+
+        // then
+        assertEquals(10, tracksPerMinute, 0.001);
+        assertEquals(480, remainingSeconds);
+        assertArrayEquals(new Object[]{20, 100, String.format("%.1f", 10.0), "8:00"}, message.getObjects());
+    }
+
+    @Test
+    public void testNoThroughputBeforeFirstTrack() {
+        // given
+        BeatportProgress progress = new BeatportProgress(100, START);
+
+        // when
+        int remainingSeconds = progress.getRemainingSeconds(START + TimeUnit.SECONDS.toNanos(10));
+
+        // then
+        assertEquals(0, remainingSeconds);
+    }
+}
@@ -0,0 +1,86 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class BeatportSearcherPoolTest {
+    @Test
+    public void testBorrowCreatesUpToSizeAndReusesReleased() throws InterruptedException {
+        // given
+        BeatportSearcherPool pool = new BeatportSearcherPool(2, () -> mock(BeatportSearcher.class));
+        BeatportSearcher first = pool.borrow();
+        BeatportSearcher second = pool.borrow();
+
+        // when
+        pool.release(first);
+        BeatportSearcher third = pool.borrow();
+
+        // then
+        assertSame(first, third);
+        assertEquals(2, pool.getCreatedCount());
+        pool.release(second);
+        pool.release(third);
+    }
+
+    @Test
+    public void testBorrowWaitsForReleaseWhenPoolIsExhausted() throws Exception {
+        // given
+        BeatportSearcherPool pool = new BeatportSearcherPool(1, () -> mock(BeatportSearcher.class));
+        BeatportSearcher searcher = pool.borrow();
+        CompletableFuture<BeatportSearcher> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pool.borrow();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // when
+        pool.release(searcher);
+
+        // then
+        assertSame(searcher, waiting.get(5, TimeUnit.SECONDS));
+        assertEquals(1, pool.getCreatedCount());
+    }
+
+    @Test
+    public void testInvalidateClosesAndAllowsNewSession() throws InterruptedException {
+        // given
+        BeatportSearcherPool pool = new BeatportSearcherPool(1, () -> mock(BeatportSearcher.class));
+        BeatportSearcher broken = pool.borrow();
+
+        // when
+        pool.invalidate(broken);
+        BeatportSearcher replacement = pool.borrow();
+
+        // then
+        verify(broken).close();
+        verify(replacement, never()).close();
+        assertEquals(1, pool.getCreatedCount());
+    }
+
+    @Test
+    public void testCloseClosesIdleAndLaterReleasedSessions() throws InterruptedException {
+        // given
+        BeatportSearcherPool pool = new BeatportSearcherPool(2, () -> mock(BeatportSearcher.class));
+        BeatportSearcher idle = pool.borrow();
+        BeatportSearcher busy = pool.borrow();
+        pool.release(idle);
+
+        // when
+        pool.close();
+        pool.release(busy);
+
+        // then
+        verify(idle).close();
+        verify(busy).close();
+    }
+}
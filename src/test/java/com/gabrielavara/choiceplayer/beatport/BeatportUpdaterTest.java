@@ -2,6 +2,12 @@ package com.gabrielavara.choiceplayer.beatport;
 
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Test;
 
@@ -41,4 +47,56 @@ public class BeatportUpdaterTest {
         // then
         assertEquals("hello", title);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetBackoffDoublesPerAttempt() {
+        // when
+        long first = BeatportUpdater.getBackoff(1);
+        long second = BeatportUpdater.getBackoff(2);
+        long third = BeatportUpdater.getBackoff(3);
+
+        // then
+        assertEquals(2 * first, second);
+        assertEquals(4 * first, third);
+    }
+
+    @Test
+    public void testStageExecutorBlocksSubmitterWhenQueueIsFull() throws InterruptedException {
+        // given
+        ThreadPoolExecutor executor = BeatportUpdater.createStageExecutor("Test stage thread", 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        started.await();
+        executor.execute(() -> {
+        });
+        AtomicBoolean submitted = new AtomicBoolean();
+        Thread submitter = new Thread(() -> {
+            executor.execute(() -> {
+            });
+            submitted.set(true);
+        });
+
+        // when
+        submitter.start();
+        submitter.join(200);
+
+        // then
+        assertFalse(submitted.get());
+        release.countDown();
+        submitter.join(1000);
+        assertTrue(submitted.get());
+        executor.shutdownNow();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class HostRateLimiterTest {
+    @Test
+    public void testGetHost() {
+        // when
+        String host = HostRateLimiter.getHost("https://geo-media.beatport.com/image_size/500x500/1.jpg");
+
+        // then
+        assertEquals("geo-media.beatport.com", host);
+    }
+
+    @Test
+    public void testMissingOrMalformedUrlsShareOneHost() {
+        // when
+        String missing = HostRateLimiter.getHost(null);
+        String malformed = HostRateLimiter.getHost("not a url");
+
+        // then
+        assertEquals("", missing);
+        assertEquals("", malformed);
+    }
+}
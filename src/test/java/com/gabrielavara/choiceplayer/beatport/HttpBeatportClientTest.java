@@ -0,0 +1,124 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class HttpBeatportClientTest {
+    private static final String ALBUM_PATH = "/release/hear-them-sing/1825115";
+
+    private HttpServer server;
+    private String baseUrl;
+    private HttpBeatportClient client;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+        client = new HttpBeatportClient(baseUrl, HostRateLimiter.unlimited());
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String fixture = "/search".equals(path) ? "search.html" : ALBUM_PATH.equals(path) ? "album.html" : null;
+        byte[] body = fixture == null ? new byte[0] : readFixture(fixture);
+        exchange.getResponseHeaders().add("Content-Type", "text/html; charset=UTF-8");
+        exchange.sendResponseHeaders(fixture == null ? 404 : 200, body.length == 0 ? -1 : body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private byte[] readFixture(String fixture) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream("/beatport/" + fixture)) {
+            return IOUtils.toByteArray(inputStream);
+        }
+    }
+
+    @Test
+    public void shouldParseSearchResults() {
+        // given
+        Mp3 mp3 = new Mp3();
+        mp3.setArtist("A.M.R feat. Stefanie Pereira");
+        mp3.setAlbum("Hear Them Sing (Remixes)");
+
+        // when
+        BeatportReleases releases = client.searchReleases(mp3);
+
+        // then
+        assertEquals(2, releases.getReleases().size());
+        BeatportRelease first = releases.getReleases().get(0);
+        assertEquals("Hear Them Sing", first.getAlbum());
+        assertEquals(baseUrl + ALBUM_PATH, first.getLink());
+        assertEquals(asList("A.M.R", "Stefanie Pereira", "Hanski", "Airsoul", "R3dub"), first.getArtists());
+        BeatportRelease second = releases.getReleases().get(1);
+        assertEquals("The \"12 Inch\" Remixes", second.getAlbum());
+        assertEquals(singletonList("A.M.R"), second.getArtists());
+    }
+
+    @Test
+    public void shouldParseAlbum() {
+        // given
+        BeatportRelease release = new BeatportRelease(singletonList("A.M.R"), "Hear Them Sing", baseUrl + ALBUM_PATH);
+
+        // when
+        BeatportAlbum album = client.getAlbum(release);
+
+        // then
+        assertEquals("Hear Them Sing", album.getTitle());
+        assertEquals(baseUrl + "/image_size/500x500/23a3bd9e-1324-446b-9cd9-cb6b5267eeeb.jpg", album.getAlbumArtUrl());
+        assertEquals("2016-09-05", album.getReleaseDate());
+        assertEquals("Alter Ego Progressive", album.getLabel());
+        assertEquals("AEP227", album.getCatalog());
+        assertEquals(asList("A.M.R", "Stefanie Pereira", "Hanski"), album.getArtists());
+        assertEquals(2, album.getTracks().size());
+
+        BeatportTrack first = album.getTracks().get(0);
+        assertEquals(new BeatportTrack("1", asList("A.M.R", "Stefanie Pereira"), "Hear Them Sing", "Original Mix", singletonList("Trance"), 132, 433), first);
+        BeatportTrack second = album.getTracks().get(1);
+        assertEquals("Hanski Remix", second.getMix());
+        assertEquals(singletonList("Progressive House"), second.getGenres());
+        assertEquals(128, second.getBpm());
+        assertEquals(3725, second.getLength());
+    }
+
+    @Test
+    public void shouldReportMissingPageAsNotFound() {
+        // given
+        BeatportRelease release = new BeatportRelease(singletonList("A.M.R"), "Missing", baseUrl + "/release/missing/1");
+
+        // when
+        try {
+            client.getAlbum(release);
+            fail("Missing page should not be parsed");
+        } catch (UncheckedIOException e) {
+            // then
+            assertTrue(e.getCause() instanceof FileNotFoundException);
+        }
+    }
+}
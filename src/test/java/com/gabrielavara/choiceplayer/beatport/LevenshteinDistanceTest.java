@@ -2,9 +2,12 @@ package com.gabrielavara.choiceplayer.beatport;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Random;
+
 import org.junit.Test;
 
 public class LevenshteinDistanceTest {
+    private static final String ALPHABET = "abcAB (-)éŐ";
 
     @Test
     public void testOneDistance() {
@@ -16,6 +19,26 @@ public class LevenshteinDistanceTest {
         testDistanceOf("abc", "ade", 2);
     }
 
+    @Test
+    public void testSameAsMatrixForShortAndLongStrings() {
+        // given
+        Random random = new Random(42);
+
+        for (int i = 0; i < 2000; i++) {
+            String a = randomString(random, random.nextInt(100));
+            String b = randomString(random, random.nextInt(100));
+
+            // when
+            int distance = LevenshteinDistance.calculate(a, b);
+            int bounded = LevenshteinDistance.calculate(a, b, i % 30);
+
+            // then
+            int expected = calculateWithMatrix(a.toLowerCase(), b.toLowerCase());
+            assertEquals(a + " / " + b, expected, distance);
+            assertEquals(a + " / " + b, Math.min(expected, i % 30 + 1), bounded);
+        }
+    }
+
     private void testDistanceOf(String a, String b, int expected) {
         //when
         int distance = LevenshteinDistance.calculate(a, b);
@@ -23,4 +46,27 @@ public class LevenshteinDistanceTest {
         //then
         assertEquals(expected, distance);
     }
-}
\ No newline at end of file
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    private static int calculateWithMatrix(String a, String b) {
+        int[][] distance = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            for (int j = 0; j <= b.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distance[i][j] = i + j;
+                } else {
+                    int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                    distance[i][j] = Math.min(Math.min(distance[i - 1][j] + 1, distance[i][j - 1] + 1), distance[i - 1][j - 1] + cost);
+                }
+            }
+        }
+        return distance[a.length()][b.length()];
+    }
+}
@@ -0,0 +1,91 @@
+package com.gabrielavara.choiceplayer.beatport;
+
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class ReleaseCandidateIndexTest {
+    private static final String[] WORDS = {"Sun", "Moon", "Remixes", "Anjunabeats", "Volume", "Original", "Mix", "Part", "1", "2", "Deep", "Night"};
+
+    @Test
+    public void testCandidatesKeepEveryCloseReleaseInOrder() {
+        // given
+        Random random = new Random(7);
+        List<BeatportRelease> releases = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            releases.add(new BeatportRelease(emptyList(), randomTitle(random), "link" + i));
+        }
+        ReleaseCandidateIndex index = new ReleaseCandidateIndex(releases);
+
+        for (int i = 0; i < 50; i++) {
+            String album = randomTitle(random);
+            int maxDistance = 1 + random.nextInt(BeatportSearcher.MAX_DISTANCE);
+
+            // when
+            List<BeatportRelease> candidates = index.getCandidates(album, maxDistance, 11);
+
+            // then
+            List<BeatportRelease> expected = releases.subList(11, releases.size()).stream()
+                    .filter(r -> LevenshteinDistance.calculate(album, r.getAlbum()) <= maxDistance)
+                    .collect(Collectors.toList());
+            List<BeatportRelease> matching = candidates.stream()
+                    .filter(r -> LevenshteinDistance.calculate(album, r.getAlbum()) <= maxDistance)
+                    .collect(Collectors.toList());
+            assertEquals(expected, matching);
+        }
+    }
+
+    @Test
+    public void testDistantReleasesAreSkipped() {
+        // given
+        List<BeatportRelease> releases = Arrays.asList(
+                new BeatportRelease(emptyList(), "Anjunabeats Volume Five Continuous Mix", "a"),
+                new BeatportRelease(emptyList(), "Group Therapy Best Of Two Thousand Seventeen", "b"),
+                new BeatportRelease(emptyList(), "Anjunabeats Volume Five Continuous Mixes", "c"));
+        ReleaseCandidateIndex index = new ReleaseCandidateIndex(releases);
+
+        // when
+        List<BeatportRelease> candidates = index.getCandidates("Anjunabeats Volume Five Continuous Mix", 3, 0);
+
+        // then
+        assertEquals(Arrays.asList(releases.get(0), releases.get(2)), candidates);
+        assertTrue(LevenshteinDistance.calculate("Anjunabeats Volume Five Continuous Mix", releases.get(1).getAlbum()) > 3);
+    }
+
+    @Test
+    public void testUnrelatedReleaseOfSimilarLengthIsSkippedAtSearcherDistance() {
+        // given
+        String album = "Anjunabeats Volume Five Continuous Mix";
+        List<BeatportRelease> releases = Arrays.asList(
+                new BeatportRelease(emptyList(), "Dirty Bass Tracks 2018", "a"),
+                new BeatportRelease(emptyList(), "Anjunabeats Volume Four", "b"));
+        ReleaseCandidateIndex index = new ReleaseCandidateIndex(releases);
+        int maxDistance = BeatportSearcher.MAX_DISTANCE - 1;
+
+        // when
+        List<BeatportRelease> candidates = index.getCandidates(album, maxDistance, 0);
+
+        // then
+        assertEquals(Collections.singletonList(releases.get(1)), candidates);
+        assertTrue(album.length() - releases.get(0).getAlbum().length() <= maxDistance);
+        assertTrue(LevenshteinDistance.calculate(album, releases.get(1).getAlbum()) <= maxDistance);
+    }
+
+    private static String randomTitle(Random random) {
+        int words = 1 + random.nextInt(6);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            builder.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
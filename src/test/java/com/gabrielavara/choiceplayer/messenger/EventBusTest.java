@@ -0,0 +1,165 @@
+package com.gabrielavara.choiceplayer.messenger;
+
+import static com.gabrielavara.choiceplayer.messenger.DispatchPolicy.BACKGROUND;
+import static com.gabrielavara.choiceplayer.messenger.DispatchPolicy.INLINE;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class EventBusTest {
+    private final EventBus eventBus = new EventBus(4);
+
+    @Test
+    public void testInlineConsumerRunsOnCallerThread() {
+        // given
+        List<Thread> threads = new ArrayList<>();
+        eventBus.register(TestMessage.class, m -> threads.add(Thread.currentThread()), INLINE);
+
+        // when
+        eventBus.send(new TestMessage(1));
+
+        // then
+        assertEquals(1, threads.size());
+        assertEquals(Thread.currentThread(), threads.get(0));
+    }
+
+    @Test
+    public void testBackgroundConsumerKeepsOrderWithBoundedQueue() throws InterruptedException {
+        // given
+        int count = 100;
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(count);
+        eventBus.register(TestMessage.class, m -> {
+            received.add(m.value);
+            threads.add(Thread.currentThread());
+            latch.countDown();
+        }, BACKGROUND);
+
+        // when
+        IntStream.range(0, count).forEach(i -> eventBus.send(new TestMessage(i)));
+
+        // then
+        assertTrue(latch.await(5, SECONDS));
+        assertEquals(IntStream.range(0, count).boxed().collect(Collectors.toList()), received);
+        assertNotEquals(Thread.currentThread(), threads.get(0));
+        MessageMetrics metrics = eventBus.getMetrics(TestMessage.class);
+        assertEquals(count, metrics.getSentCount());
+        assertTrue(metrics.getMaxQueueDepth() >= 1);
+    }
+
+    @Test
+    public void testMetricsCountDeliveriesPerType() {
+        // given
+        eventBus.register(TestMessage.class, m -> {
+        }, INLINE);
+        eventBus.register(TestMessage.class, m -> {
+        }, INLINE);
+
+        // when
+        eventBus.send(new TestMessage(1));
+        eventBus.send(new OtherMessage());
+
+        // then
+        assertEquals(1, eventBus.getMetrics(TestMessage.class).getSentCount());
+        assertEquals(2, eventBus.getMetrics(TestMessage.class).getDeliveredCount());
+        assertEquals(1, eventBus.getMetrics(OtherMessage.class).getSentCount());
+        assertEquals(0, eventBus.getMetrics(OtherMessage.class).getDeliveredCount());
+    }
+
+    @Test
+    public void testUnregister() {
+        // given
+        List<TestMessage> received = new ArrayList<>();
+        MessageConsumer<TestMessage> consumer = received::add;
+        eventBus.register(TestMessage.class, consumer, INLINE);
+        eventBus.unregister(TestMessage.class, consumer);
+
+        // when
+        eventBus.send(new TestMessage(1));
+
+        // then
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    public void testCoalesceKeepsLatestMessageInWindow() throws InterruptedException {
+        // given
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        eventBus.coalesce(TestMessage.class, 50, (previous, latest) -> latest);
+        eventBus.register(TestMessage.class, m -> {
+            received.add(m.value);
+            latch.countDown();
+        }, INLINE);
+
+        // when
+        IntStream.range(0, 10).forEach(i -> eventBus.send(new TestMessage(i)));
+
+        // then
+        assertTrue(latch.await(5, SECONDS));
+        assertEquals(singletonList(9), received);
+        assertEquals(9, eventBus.getMetrics(TestMessage.class).getCoalescedCount());
+    }
+
+    @Test
+    public void testCoalesceMergesMessagesInWindow() throws InterruptedException {
+        // given
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        eventBus.coalesce(TestMessage.class, 50, (previous, latest) -> new TestMessage(previous.value + latest.value));
+        eventBus.register(TestMessage.class, m -> {
+            received.add(m.value);
+            latch.countDown();
+        }, INLINE);
+
+        // when
+        IntStream.range(0, 10).forEach(i -> eventBus.send(new TestMessage(1)));
+
+        // then
+        assertTrue(latch.await(5, SECONDS));
+        assertEquals(singletonList(10), received);
+    }
+
+    @Test
+    public void testRegisterBatchDeliversMessagesInWindowTogether() throws InterruptedException {
+        // given
+        List<List<TestMessage>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        eventBus.registerBatch(TestMessage.class, 50, batch -> {
+            batches.add(batch);
+            latch.countDown();
+        }, BACKGROUND);
+
+        // when
+        IntStream.range(0, 10).forEach(i -> eventBus.send(new TestMessage(i)));
+
+        // then
+        assertTrue(latch.await(5, SECONDS));
+        assertEquals(1, batches.size());
+        assertEquals(IntStream.range(0, 10).boxed().collect(Collectors.toList()),
+                batches.get(0).stream().map(m -> m.value).collect(Collectors.toList()));
+    }
+
+    private static class TestMessage {
+        private final int value;
+
+        private TestMessage(int value) {
+            this.value = value;
+        }
+    }
+
+    private static class OtherMessage {
+    }
+}
@@ -0,0 +1,30 @@
+package com.gabrielavara.choiceplayer.player;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import javafx.util.Duration;
+
+public class CrossfaderTest {
+    @Test
+    public void testIsDueWithinCrossfade() {
+        // when
+        boolean due = Crossfader.isDue(Duration.millis(295000), Duration.seconds(300), 5000);
+
+        // then
+        assertTrue(due);
+    }
+
+    @Test
+    public void testIsNotDueWhenDisabledOrTrackTooShort() {
+        // when
+        boolean disabled = Crossfader.isDue(Duration.millis(299000), Duration.seconds(300), 0);
+        boolean tooShort = Crossfader.isDue(Duration.millis(1000), Duration.seconds(8), 5000);
+
+        // then
+        assertFalse(disabled);
+        assertFalse(tooShort);
+    }
+}
@@ -0,0 +1,47 @@
+package com.gabrielavara.choiceplayer.player;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import javafx.util.Duration;
+
+public class TrackPrefetcherTest {
+    @Test
+    public void testIsDueWithinPrefetchSeconds() {
+        // given
+        Duration duration = Duration.seconds(300);
+
+        // when
+        boolean due = TrackPrefetcher.isDue(Duration.seconds(291), duration, 10);
+
+        // then
+        assertTrue(due);
+    }
+
+    @Test
+    public void testIsNotDueBeforePrefetchSeconds() {
+        // given
+        Duration duration = Duration.seconds(300);
+
+        // when
+        boolean due = TrackPrefetcher.isDue(Duration.seconds(289), duration, 10);
+
+        // then
+        assertFalse(due);
+    }
+
+    @Test
+    public void testIsNotDueWhenDisabledOrDurationUnknown() {
+        // when
+        boolean disabled = TrackPrefetcher.isDue(Duration.seconds(299), Duration.seconds(300), 0);
+        boolean unknown = TrackPrefetcher.isDue(Duration.seconds(299), Duration.UNKNOWN, 10);
+        boolean notReady = TrackPrefetcher.isDue(Duration.seconds(299), null, 10);
+
+        // then
+        assertFalse(disabled);
+        assertFalse(unknown);
+        assertFalse(notReady);
+    }
+}
@@ -1,10 +1,17 @@
 package com.gabrielavara.choiceplayer.playlist;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 
+import org.junit.After;
 import org.junit.Test;
 
 import com.gabrielavara.choiceplayer.views.PlaylistItemView;
@@ -12,6 +19,12 @@ import com.mpatric.mp3agic.InvalidDataException;
 import com.mpatric.mp3agic.UnsupportedTagException;
 
 public class PlaylistCacheTest {
+    private static final Path PLAYLIST_CACHE_JSON = Paths.get("playlistCache.json");
+
+    @After
+    public void tearDown() throws IOException {
+        PlaylistCacheTestUtil.deleteCacheFile();
+    }
 
     @Test
     public void testSaveAndLoad() throws InvalidDataException, IOException, UnsupportedTagException {
@@ -23,9 +36,93 @@ public class PlaylistCacheTest {
 
         // then
         assertEquals(PlaylistCacheTestUtil.createPlaylist(), playlist);
+    }
 
-        // tear down
-        PlaylistCacheTestUtil.deleteCacheFile();
+    @Test
+    public void testSaveAndLoadKeepsItemDetails() throws InvalidDataException, IOException, UnsupportedTagException {
+        // given
+        List<PlaylistItemView> expected = PlaylistCacheTestUtil.createPlaylist(100);
+        PlaylistCache.save(expected);
+
+        // when
+        List<PlaylistItemView> playlist = PlaylistCache.load();
+
+        // then
+        assertEquals(expected, playlist);
+        assertEquals(Integer.valueOf(100), playlist.get(99).getIndex());
+        assertEquals("100", playlist.get(99).getIndexAsString());
+        assertEquals(expected.get(99).getLength(), playlist.get(99).getLength());
+        assertEquals(1, playlist.get(0).getMp3().getTrackAsInt());
+        assertTrue(playlist.get(0).getMp3().isCurrentlyPlaying());
+    }
+
+    @Test
+    public void testSaveAndLoadSpanningSeveralChunks() throws InvalidDataException, IOException, UnsupportedTagException {
+        // given
+        List<PlaylistItemView> expected = PlaylistCacheTestUtil.createPlaylist(2000);
+        char[] longAlbum = new char[100 * 1024];
+        Arrays.fill(longAlbum, 'a');
+        expected.get(1000).getMp3().setAlbum(new String(longAlbum));
+        PlaylistCache.save(expected);
+
+        // when
+        List<PlaylistItemView> playlist = PlaylistCache.load();
+
+        // then
+        assertEquals(expected, playlist);
+        assertEquals(longAlbum.length, playlist.get(1000).getMp3().getAlbum().length());
+    }
+
+    @Test
+    public void testLoadImportsJsonWhenBinaryCacheIsMissing() throws InvalidDataException, IOException, UnsupportedTagException {
+        // given
+        PlaylistCache.exportJson(PLAYLIST_CACHE_JSON, PlaylistCacheTestUtil.createPlaylist());
+
+        // when
+        List<PlaylistItemView> playlist = PlaylistCache.load();
+
+        // then
+        assertEquals(PlaylistCacheTestUtil.createPlaylist(), playlist);
+    }
+
+    @Test
+    public void testLoadFallsBackToJsonWhenBinaryCacheIsCorrupt() throws InvalidDataException, IOException, UnsupportedTagException {
+        // given
+        PlaylistCache.exportJson(PLAYLIST_CACHE_JSON, PlaylistCacheTestUtil.createPlaylist());
+        Files.write(Paths.get("playlistCache.bin"), new byte[]{1, 2, 3});
+
+        // when
+        List<PlaylistItemView> playlist = PlaylistCache.load();
+
+        // then
+        assertEquals(PlaylistCacheTestUtil.createPlaylist(), playlist);
+    }
+
+    @Test
+    public void testExportAndImportJson() throws InvalidDataException, IOException, UnsupportedTagException {
+        // given
+        List<PlaylistItemView> expected = PlaylistCacheTestUtil.createPlaylist(100);
+        PlaylistCache.exportJson(PLAYLIST_CACHE_JSON, expected);
+
+        // when
+        List<PlaylistItemView> playlist = PlaylistCache.importJson(PLAYLIST_CACHE_JSON);
+
+        // then
+        assertEquals(expected, playlist);
+        assertFalse(Files.exists(Paths.get("playlistCache.json.tmp")));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testImportTruncatedJsonReturnsEmptyPlaylist() throws InvalidDataException, IOException, UnsupportedTagException {
+        // given
+        PlaylistCache.exportJson(PLAYLIST_CACHE_JSON, PlaylistCacheTestUtil.createPlaylist(2));
+        byte[] content = Files.readAllBytes(PLAYLIST_CACHE_JSON);
+        Files.write(PLAYLIST_CACHE_JSON, Arrays.copyOf(content, content.length / 2));
+
+        // when
+        List<PlaylistItemView> playlist = PlaylistCache.importJson(PLAYLIST_CACHE_JSON);
+
+        // then
+        assertTrue(playlist.isEmpty());
+    }
+}
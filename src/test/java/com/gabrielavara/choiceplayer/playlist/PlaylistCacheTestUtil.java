@@ -15,7 +15,8 @@ import com.mpatric.mp3agic.UnsupportedTagException;
 
 class PlaylistCacheTestUtil {
     private static final String OLDER_MP3 = "src/test/resources/mp3/testOlder.mp3";
-    private static final String PLAYLIST_CACHE = "playlistCache.json";
+    private static final String PLAYLIST_CACHE = "playlistCache.bin";
+    private static final String PLAYLIST_CACHE_JSON = "playlistCache.json";
 
     static List<PlaylistItemView> createPlaylist() throws IOException, UnsupportedTagException, InvalidDataException {
         List<PlaylistItemView> playlist = new ArrayList<>();
@@ -23,8 +24,23 @@ class PlaylistCacheTestUtil {
         return playlist;
     }
 
+    static List<PlaylistItemView> createPlaylist(int size) throws IOException, UnsupportedTagException, InvalidDataException {
+        List<PlaylistItemView> playlist = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            Mp3 mp3 = new Mp3(new Mp3File(Paths.get(OLDER_MP3)));
+            mp3.setTitle("Title " + i);
+            mp3.setCurrentlyPlaying(i == 1);
+            playlist.add(new PlaylistItemView(i, mp3));
+        }
+        return playlist;
+    }
+
     static void deleteCacheFile() throws IOException {
-        Path cacheFilePath = Paths.get(PLAYLIST_CACHE);
+        deleteFile(Paths.get(PLAYLIST_CACHE));
+        deleteFile(Paths.get(PLAYLIST_CACHE_JSON));
+    }
+
+    private static void deleteFile(Path cacheFilePath) throws IOException {
         if (cacheFilePath.toFile().exists()) {
             Files.delete(cacheFilePath);
         }
@@ -1,11 +1,19 @@
 package com.gabrielavara.choiceplayer.playlist;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.junit.After;
 import org.junit.Test;
 
 import com.gabrielavara.choiceplayer.api.service.PlaylistTestInitializer;
@@ -13,11 +21,17 @@ import com.gabrielavara.choiceplayer.dto.Mp3;
 
 public class PlaylistLoaderTest extends PlaylistTestInitializer {
     private final static Path testResourcesFolder = Paths.get("src/test/resources/mp3");
+    private final static Path testIndexPath = Paths.get("testPlaylistIndex.json");
+
+    @After
+    public void deleteTestIndex() throws IOException {
+        Files.deleteIfExists(testIndexPath);
+    }
 
     @Test
     public void testLoad() {
         // given
-        PlaylistLoader playlistLoader = new PlaylistLoader();
+        PlaylistLoader playlistLoader = new PlaylistLoader(PlaylistIndex.load(testIndexPath));
 
         // when
         List<Mp3> mp3Files = playlistLoader.load(testResourcesFolder);
@@ -40,4 +54,102 @@ public class PlaylistLoaderTest extends PlaylistTestInitializer {
         assertEquals("Test Newer Title", mp3Files.get(3).getTitle());
         assertEquals("1", mp3Files.get(3).getTrack());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testLoadPublishesBatches() {
+        // given
+        PlaylistLoader playlistLoader = new PlaylistLoader(PlaylistIndex.load(testIndexPath));
+        List<Mp3> published = new ArrayList<>();
+
+        // when
+        List<Mp3> mp3Files = playlistLoader.load(testResourcesFolder, published::addAll);
+
+        // then
+        assertEquals(4, published.size());
+        assertEquals(new HashSet<>(mp3Files), new HashSet<>(published));
+    }
+
+    @Test
+    public void testLoadSavesIndex() {
+        // given
+        PlaylistLoader playlistLoader = new PlaylistLoader(PlaylistIndex.load(testIndexPath));
+
+        // when
+        playlistLoader.load(testResourcesFolder);
+
+        // then
+        assertEquals(4, PlaylistIndex.load(testIndexPath).size());
+    }
+
+    @Test
+    public void testLoadReusesUnchangedFilesFromIndex() {
+        // given
+        new PlaylistLoader(PlaylistIndex.load(testIndexPath)).load(testResourcesFolder);
+        PlaylistIndex playlistIndex = PlaylistIndex.load(testIndexPath);
+        List<PlaylistIndexEntry> entries = getEntries(playlistIndex);
+        entries.get(0).getMp3().setTitle("Indexed Title");
+        entries.get(1).getFingerprint().setSize(1);
+        entries.get(1).getMp3().setTitle("Outdated Title");
+        playlistIndex.save(entries);
+
+        // when
+        List<Mp3> mp3Files = new PlaylistLoader(PlaylistIndex.load(testIndexPath)).load(testResourcesFolder);
+
+        // then
+        List<String> titles = mp3Files.stream().map(Mp3::getTitle).collect(Collectors.toList());
+        assertTrue(titles.contains("Indexed Title"));
+        assertFalse(titles.contains("Outdated Title"));
+        assertEquals(4, mp3Files.size());
+    }
+
+    @Test
+    public void testLoadDropsDeletedFilesFromIndex() {
+        // given
+        new PlaylistLoader(PlaylistIndex.load(testIndexPath)).load(testResourcesFolder);
+        PlaylistIndex playlistIndex = PlaylistIndex.load(testIndexPath);
+        List<PlaylistIndexEntry> entries = getEntries(playlistIndex);
+        entries.add(new PlaylistIndexEntry(new FileFingerprint("deleted.mp3", 1, 1, 1), new Mp3(), false));
+        playlistIndex.save(entries);
+
+        // when
+        new PlaylistLoader(PlaylistIndex.load(testIndexPath)).load(testResourcesFolder);
+
+        // then
+        assertEquals(4, PlaylistIndex.load(testIndexPath).size());
+    }
+
+    @Test
+    public void testIndexKeepsTagsUsedForBeatportSearch() {
+        // given
+        List<Mp3> parsed = new PlaylistLoader(PlaylistIndex.load(testIndexPath)).load(testResourcesFolder);
+        PlaylistIndex playlistIndex = PlaylistIndex.load(testIndexPath);
+        List<PlaylistIndexEntry> entries = getEntries(playlistIndex);
+        Mp3 mp3 = entries.get(0).getMp3();
+        mp3.setAlbumArtist("Album Artist");
+        mp3.setComment("Comment");
+        mp3.setGenre("Techno");
+        mp3.setBpm(128);
+        playlistIndex.save(entries);
+
+        // when
+        List<Mp3> indexed = new PlaylistLoader(PlaylistIndex.load(testIndexPath)).load(testResourcesFolder);
+
+        // then
+        Mp3 roundTripped = indexed.stream().filter(m -> m.getFilename().equals(mp3.getFilename())).findFirst().orElseThrow(AssertionError::new);
+        assertEquals("Album Artist", roundTripped.getAlbumArtist());
+        assertEquals("Comment", roundTripped.getComment());
+        assertEquals("Techno", roundTripped.getGenre());
+        assertEquals(128, roundTripped.getBpm());
+        for (Mp3 original : parsed) {
+            Mp3 fromIndex = indexed.stream().filter(m -> m.getFilename().equals(original.getFilename())).findFirst().orElseThrow(AssertionError::new);
+            if (!fromIndex.getFilename().equals(mp3.getFilename())) {
+                assertEquals(original.getAlbumArtist(), fromIndex.getAlbumArtist());
+                assertEquals(original.shouldSearchForInfo(), fromIndex.shouldSearchForInfo());
+            }
+        }
+    }
+
+    private static List<PlaylistIndexEntry> getEntries(PlaylistIndex playlistIndex) {
+        return new ArrayList<>(playlistIndex.getEntries());
+    }
+}
@@ -110,7 +110,7 @@ public class PlaylistTest {
         PlaylistItemView itemView = createPlaylistItemView(createMp3());
         PlaylistCache.save(PlaylistCacheTestUtil.createPlaylist());
         List<Mp3> mp3List = singletonList(createMp3());
-        when(playlistLoaderMock.load(Paths.get(FOLDER))).thenReturn(mp3List);
+        when(playlistLoaderMock.load(eq(Paths.get(FOLDER)), any())).thenReturn(mp3List);
         mockAnimateOut();
 
         //when
@@ -119,7 +119,7 @@ public class PlaylistTest {
                 .atMost(2, SECONDS).until(containsPlaylist(itemView));
 
         //then
-        verify(playlistLoaderMock).load(Paths.get(FOLDER));
+        verify(playlistLoaderMock).load(eq(Paths.get(FOLDER)), any());
         verify(playlistAnimatorMock).showItems(Optional.empty(), true);
         verify(playlistAnimatorMock).showItems(Optional.empty(), false);
         assertEquals(0, playlistLoadedMessageSent);
@@ -134,7 +134,7 @@ public class PlaylistTest {
         PlaylistItemView itemView = createPlaylistItemView(createMp3());
         PlaylistCache.save(singletonList(itemView));
         List<Mp3> mp3List = singletonList(createMp3());
-        when(playlistLoaderMock.load(Paths.get(FOLDER))).thenReturn(mp3List);
+        when(playlistLoaderMock.load(eq(Paths.get(FOLDER)), any())).thenReturn(mp3List);
         mockAnimateOut();
 
         // when
@@ -143,7 +143,7 @@ public class PlaylistTest {
                 .atMost(2, SECONDS).until(containsPlaylist(itemView));
 
         // then
-        verify(playlistLoaderMock).load(Paths.get(FOLDER));
+        verify(playlistLoaderMock).load(eq(Paths.get(FOLDER)), any());
         verify(playlistAnimatorMock).showItems(Optional.empty(), true);
         verify(playlistAnimatorMock, never()).showItems(Optional.empty(), false);
         assertEquals(1, playlistLoadedMessageSent);
@@ -158,7 +158,7 @@ public class PlaylistTest {
         PlaylistItemView itemView = createPlaylistItemView(createMp3());
         PlaylistCache.save(singletonList(itemView));
         List<Mp3> mp3List = singletonList(createMp3());
-        when(playlistLoaderMock.load(Paths.get(FOLDER))).thenReturn(mp3List);
+        when(playlistLoaderMock.load(eq(Paths.get(FOLDER)), any())).thenReturn(mp3List);
         mockAnimateOut();
 
         // when
@@ -167,7 +167,7 @@ public class PlaylistTest {
                 .atMost(2, SECONDS).until(containsPlaylist(itemView));
 
         // then
-        verify(playlistLoaderMock).load(Paths.get(FOLDER));
+        verify(playlistLoaderMock).load(eq(Paths.get(FOLDER)), any());
         verify(playlistAnimatorMock).showItems(Optional.empty(), true);
         verify(playlistAnimatorMock, never()).showItems(Optional.empty(), false);
         assertEquals(1, playlistLoadedMessageSent);
@@ -182,7 +182,7 @@ public class PlaylistTest {
         PlaylistItemView itemView = createPlaylistItemView(createMp3());
         PlaylistCache.save(singletonList(itemView));
         List<Mp3> mp3List = singletonList(createMp3());
-        when(playlistLoaderMock.load(Paths.get(FOLDER))).thenReturn(mp3List);
+        when(playlistLoaderMock.load(eq(Paths.get(FOLDER)), any())).thenReturn(mp3List);
         mockAnimateOut();
 
         // when
@@ -191,7 +191,7 @@ public class PlaylistTest {
                 .atMost(2, SECONDS).until(containsPlaylist(itemView));
 
         // then
-        verify(playlistLoaderMock).load(Paths.get(FOLDER));
+        verify(playlistLoaderMock).load(eq(Paths.get(FOLDER)), any());
         verify(playlistAnimatorMock, never()).showItems(Optional.empty(), true);
         verify(playlistAnimatorMock).showItems(Optional.empty(), false);
         assertEquals(0, playlistLoadedMessageSent);
@@ -8,11 +8,14 @@ import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import com.gabrielavara.choiceplayer.api.service.PlaylistTestInitializer;
 import com.gabrielavara.choiceplayer.dto.Mp3;
@@ -26,11 +29,14 @@ public class PlaylistUtilTest extends PlaylistTestInitializer {
     private PlaylistUtil playlistUtil;
     private ObservableList<PlaylistItemView> playlistItemViews = FXCollections.observableArrayList();
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Override
     @Before
     public void setup() throws IOException {
         super.setup();
-        List<Mp3> files = new PlaylistLoader().load(Paths.get("src/test/resources/mp3"));
+        List<Mp3> files = new PlaylistLoader(PlaylistIndex.load(temporaryFolder.getRoot().toPath().resolve("playlistIndex.json"))).load(Paths.get("src/test/resources/mp3"));
         mp3List = FXCollections.observableList(files);
         List<PlaylistItemView> items = IntStream.range(0, files.size()).mapToObj(index -> new PlaylistItemView(index + 1, files.get(index)))
                 .collect(Collectors.toList());
@@ -131,4 +137,77 @@ public class PlaylistUtilTest extends PlaylistTestInitializer {
         // then
         assertTrue(currentlyPlayingAlbumArt.isPresent());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetNextTrackAfterCurrentlyPlayingChanged() {
+        // given
+        playlistItemViews.get(0).getMp3().setCurrentlyPlaying(true);
+        playlistUtil.getNextTrack();
+        playlistItemViews.get(0).getMp3().setCurrentlyPlaying(false);
+        playlistItemViews.get(2).getMp3().setCurrentlyPlaying(true);
+
+        // when
+        Optional<Mp3> nextTrack = playlistUtil.getNextTrack();
+
+        // then
+        assertTrue(nextTrack.isPresent());
+        nextTrack.ifPresent(t -> assertEquals(mp3List.get(3), t));
+    }
+
+    @Test
+    public void testGetPlaylistIndex() {
+        // when
+        OptionalInt index = playlistUtil.getPlaylistIndex(mp3List.get(2));
+
+        // then
+        assertEquals(OptionalInt.of(2), index);
+    }
+
+    @Test
+    public void testGetPlaylistIndexAfterPlaylistChanged() {
+        // given
+        playlistUtil.getPlaylistIndex(mp3List.get(2));
+        PlaylistItemView removed = playlistItemViews.remove(0);
+        playlistItemViews.add(removed);
+
+        // when
+        OptionalInt index = playlistUtil.getPlaylistIndex(removed.getMp3());
+
+        // then
+        assertEquals(OptionalInt.of(3), index);
+    }
+
+    @Test
+    public void testGetPlaylistIndexOfEqualMp3() {
+        // given
+        Mp3 original = mp3List.get(1);
+        Mp3 mp3 = new Mp3();
+        mp3.setArtist(original.getArtist());
+        mp3.setTitle(original.getTitle());
+        mp3.setYear(original.getYear());
+        mp3.setAlbum(original.getAlbum());
+        mp3.setTrack(original.getTrack());
+        mp3.setLength(original.getLength());
+        mp3.setFilename(original.getFilename());
+
+        // when
+        Optional<PlaylistItemView> itemView = playlistUtil.getPlaylistItemView(mp3);
+
+        // then
+        assertTrue(itemView.isPresent());
+        assertEquals(playlistItemViews.get(1), itemView.get());
+    }
+
+    @Test
+    public void testGetPlaylistIndexOfUnknownMp3() {
+        // given
+        Mp3 mp3 = new Mp3();
+        mp3.setFilename("unknown.mp3");
+
+        // when
+        OptionalInt index = playlistUtil.getPlaylistIndex(mp3);
+
+        // then
+        assertFalse(index.isPresent());
+    }
+}
@@ -0,0 +1,58 @@
+package com.gabrielavara.choiceplayer.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+import com.mpatric.mp3agic.ID3v2;
+import com.mpatric.mp3agic.InvalidDataException;
+import com.mpatric.mp3agic.Mp3File;
+import com.mpatric.mp3agic.UnsupportedTagException;
+
+public class Id3TagReaderTest {
+    private static final Path OLDER_MP3 = Paths.get("src/test/resources/mp3/testOlder.mp3");
+    private static final Path NEWER_MP3 = Paths.get("src/test/resources/mp3/testNewer.mp3");
+    private static final Path ALBUM_1_MP3 = Paths.get("src/test/resources/mp3/testAlbum1.mp3");
+
+    @Test
+    public void testReadSameTagsAsMp3File() throws IOException, UnsupportedTagException, InvalidDataException {
+        testReadSameTagsAs(OLDER_MP3);
+        testReadSameTagsAs(NEWER_MP3);
+        testReadSameTagsAs(ALBUM_1_MP3);
+    }
+
+    @Test
+    public void testReadAlbumArt() throws IOException, UnsupportedTagException, InvalidDataException {
+        // when
+        Optional<ID3v2> id3v2Tag = Id3TagReader.readId3v2Tag(NEWER_MP3);
+
+        // then
+        assertTrue(id3v2Tag.isPresent());
+        assertTrue(id3v2Tag.get().getAlbumImage().length > 0);
+    }
+
+    private void testReadSameTagsAs(Path path) throws IOException, UnsupportedTagException, InvalidDataException {
+        // given
+        Mp3File mp3File = new Mp3File(path);
+
+        // when
+        Id3Tags tags = Id3TagReader.read(path);
+
+        // then
+        Mp3 expected = new Mp3(mp3File);
+        Mp3 actual = new Mp3(tags);
+        assertEquals(expected.getArtist(), actual.getArtist());
+        assertEquals(expected.getTitle(), actual.getTitle());
+        assertEquals(expected.getAlbum(), actual.getAlbum());
+        assertEquals(expected.getTrack(), actual.getTrack());
+        assertEquals(expected.getFilename(), actual.getFilename());
+        assertEquals(mp3File.getLengthInMilliseconds(), tags.getLengthInMilliseconds(), mp3File.getLengthInMilliseconds() / 100.0);
+    }
+}
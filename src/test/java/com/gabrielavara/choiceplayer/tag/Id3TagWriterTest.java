@@ -0,0 +1,90 @@
+package com.gabrielavara.choiceplayer.tag;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.mpatric.mp3agic.ID3v1;
+import com.mpatric.mp3agic.ID3v2;
+import com.mpatric.mp3agic.InvalidDataException;
+import com.mpatric.mp3agic.Mp3File;
+import com.mpatric.mp3agic.NotSupportedException;
+import com.mpatric.mp3agic.UnsupportedTagException;
+
+public class Id3TagWriterTest {
+    private static final Path NEWER_MP3 = Paths.get("src/test/resources/mp3/testNewer.mp3");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testGrowingTagRewritesFileWithPaddingAndKeepsAudio() throws IOException, UnsupportedTagException, InvalidDataException, NotSupportedException {
+        // given
+        Path path = copyFixture();
+        Id3Tags tags = Id3TagReader.read(path);
+        byte[] audio = getAudio(path);
+        ID3v2 id3v2Tag = tags.getId3v2Tag();
+        id3v2Tag.setAlbumImage(new byte[id3v2Tag.getLength() + 1000], "image/jpeg");
+
+        // when
+        boolean inPlace = Id3TagWriter.write(path, id3v2Tag, tags.getId3v1Tag());
+
+        // then
+        assertFalse(inPlace);
+        assertArrayEquals(audio, getAudio(path));
+        try (FileChannel channel = FileChannel.open(path)) {
+            assertEquals(id3v2Tag.getLength() + Id3TagWriter.PADDING_LENGTH, Id3TagReader.getId3v2TagLength(channel));
+        }
+        assertEquals(tags.getId3v2Tag().getTitle(), new Mp3File(path).getId3v2Tag().getTitle());
+    }
+
+    @Test
+    public void testTagThatFitsIsWrittenInPlace() throws IOException, UnsupportedTagException, InvalidDataException, NotSupportedException {
+        // given
+        Path path = copyFixture();
+        Id3Tags tags = Id3TagReader.read(path);
+        Id3TagWriter.write(path, tags.getId3v2Tag(), tags.getId3v1Tag());
+        long size = Files.size(path);
+        byte[] audio = getAudio(path);
+        ID3v2 id3v2Tag = Id3TagReader.read(path).getId3v2Tag();
+        id3v2Tag.setTitle("A longer title than before (Extended Mix)");
+        ID3v1 id3v1Tag = Id3TagReader.read(path).getId3v1Tag();
+        id3v1Tag.setTitle("Shorter");
+
+        // when
+        boolean inPlace = Id3TagWriter.write(path, id3v2Tag, id3v1Tag);
+
+        // then
+        assertTrue(inPlace);
+        assertEquals(size, Files.size(path));
+        assertArrayEquals(audio, getAudio(path));
+        Mp3File mp3File = new Mp3File(path);
+        assertEquals("A longer title than before (Extended Mix)", mp3File.getId3v2Tag().getTitle());
+        assertEquals("Shorter", mp3File.getId3v1Tag().getTitle());
+        assertArrayEquals(tags.getId3v2Tag().getAlbumImage(), mp3File.getId3v2Tag().getAlbumImage());
+    }
+
+    private Path copyFixture() throws IOException {
+        Path path = temporaryFolder.getRoot().toPath().resolve(NEWER_MP3.getFileName());
+        Files.copy(NEWER_MP3, path);
+        return path;
+    }
+
+    private static byte[] getAudio(Path path) throws IOException, UnsupportedTagException, InvalidDataException {
+        Mp3File mp3File = new Mp3File(path);
+        byte[] bytes = Files.readAllBytes(path);
+        return Arrays.copyOfRange(bytes, mp3File.getStartOffset(), mp3File.getEndOffset() + 1);
+    }
+}
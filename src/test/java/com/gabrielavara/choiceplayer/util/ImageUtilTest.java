@@ -0,0 +1,89 @@
+package com.gabrielavara.choiceplayer.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import javafx.scene.paint.Color;
+
+public class ImageUtilTest {
+    @Test
+    public void testToGrayScaleMatchesColorGrayScale() {
+        // given
+        int[] pixels = new Random(42).ints(10000).toArray();
+        int[] original = pixels.clone();
+
+        // when
+        ImageUtil.toGrayScale(pixels, 0, pixels.length);
+
+        // then
+        for (int i = 0; i < pixels.length; i++) {
+            Color expected = toColor(original[i]).grayscale();
+            assertEquals(original[i] >>> 24, pixels[i] >>> 24);
+            assertChannel(expected.getRed(), (pixels[i] >> 16) & 0xFF);
+            assertChannel(expected.getGreen(), (pixels[i] >> 8) & 0xFF);
+            assertChannel(expected.getBlue(), pixels[i] & 0xFF);
+        }
+    }
+
+    @Test
+    public void testToGrayScaleOnlyTransformsRange() {
+        // given
+        int[] pixels = {0xFFFF0000, 0xFF00FF00, 0xFF0000FF};
+
+        // when
+        ImageUtil.toGrayScale(pixels, 1, 2);
+
+        // then
+        assertEquals(0xFFFF0000, pixels[0]);
+        assertEquals(0xFFB5B5B5, pixels[1]);
+        assertEquals(0xFF0000FF, pixels[2]);
+    }
+
+    @Test
+    public void testBoxBlurKeepsUniformImage() {
+        // given
+        int[] pixels = new int[20 * 10];
+        Arrays.fill(pixels, 0xFF336699);
+
+        // when
+        ImageUtil.boxBlur(pixels, 20, 10, 3, 3);
+
+        // then
+        for (int pixel : pixels) {
+            assertEquals(0xFF336699, pixel);
+        }
+    }
+
+    @Test
+    public void testBoxBlurSpreadsPixelSymmetrically() {
+        // given
+        int width = 9;
+        int[] pixels = new int[width * width];
+        Arrays.fill(pixels, 0xFF000000);
+        pixels[4 * width + 4] = 0xFFFFFFFF;
+
+        // when
+        ImageUtil.boxBlur(pixels, width, width, 1, 1);
+
+        // then
+        int center = pixels[4 * width + 4] & 0xFF;
+        assertEquals(255 / 3 / 3, center);
+        assertEquals(center, pixels[3 * width + 3] & 0xFF);
+        assertEquals(center, pixels[5 * width + 4] & 0xFF);
+        assertEquals(0, pixels[2 * width + 4] & 0xFF);
+        assertEquals(0xFF, pixels[0] >>> 24);
+    }
+
+    private static Color toColor(int argb) {
+        return Color.rgb((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF, ((argb >>> 24) & 0xFF) / 255.0);
+    }
+
+    private static void assertChannel(double expected, int actual) {
+        assertTrue(Math.abs(Math.round(expected * 255) - actual) <= 1);
+    }
+}
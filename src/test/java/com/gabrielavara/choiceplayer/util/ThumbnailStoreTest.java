@@ -0,0 +1,132 @@
+package com.gabrielavara.choiceplayer.util;
+
+import static com.gabrielavara.choiceplayer.Constants.ALBUM_ART_SIZE;
+import static com.gabrielavara.choiceplayer.Constants.BIG_ALBUM_ART_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+import com.gabrielavara.choiceplayer.tag.Id3TagReader;
+import com.mpatric.mp3agic.InvalidDataException;
+import com.mpatric.mp3agic.UnsupportedTagException;
+
+public class ThumbnailStoreTest {
+    private static final Path NEWER_MP3 = Paths.get("src/test/resources/mp3/testNewer.mp3");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testFillStoresScaledThumbnails() throws IOException, UnsupportedTagException, InvalidDataException {
+        // given
+        ThumbnailStore thumbnailStore = new ThumbnailStore(temporaryFolder.getRoot().toPath());
+        Mp3 mp3 = new Mp3(Id3TagReader.read(NEWER_MP3));
+
+        // when
+        thumbnailStore.fill(Collections.singletonList(mp3));
+
+        // then
+        Optional<String> hash = thumbnailStore.getHash(mp3);
+        assertTrue(hash.isPresent());
+        assertThumbnailSize(thumbnailStore, hash.get(), ALBUM_ART_SIZE);
+        assertThumbnailSize(thumbnailStore, hash.get(), BIG_ALBUM_ART_SIZE);
+    }
+
+    @Test
+    public void testIndexIsPersisted() throws IOException, UnsupportedTagException, InvalidDataException {
+        // given
+        Mp3 mp3 = new Mp3(Id3TagReader.read(NEWER_MP3));
+        ThumbnailStore thumbnailStore = new ThumbnailStore(temporaryFolder.getRoot().toPath());
+        thumbnailStore.fill(Collections.singletonList(mp3));
+
+        // when
+        ThumbnailStore reloadedThumbnailStore = new ThumbnailStore(temporaryFolder.getRoot().toPath());
+
+        // then
+        assertEquals(thumbnailStore.getHash(mp3), reloadedThumbnailStore.getHash(mp3));
+    }
+
+    @Test
+    public void testUnknownFileHasNoHash() {
+        // given
+        ThumbnailStore thumbnailStore = new ThumbnailStore(temporaryFolder.getRoot().toPath());
+        Mp3 mp3 = new Mp3();
+        mp3.setFilename(NEWER_MP3.toString());
+
+        // when
+        Optional<String> hash = thumbnailStore.getHash(mp3);
+
+        // then
+        assertFalse(hash.isPresent());
+    }
+
+    @Test
+    public void testScaleKeepsAspectRatio() {
+        // given
+        BufferedImage original = new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB);
+
+        // when
+        BufferedImage scaled = ThumbnailStore.scale(original, ALBUM_ART_SIZE);
+
+        // then
+        assertEquals(ALBUM_ART_SIZE, scaled.getWidth());
+        assertEquals(ALBUM_ART_SIZE / 2, scaled.getHeight());
+    }
+
+    @Test
+    public void testScaleKeepsAlpha() {
+        // given
+        BufferedImage original = new BufferedImage(1000, 1000, BufferedImage.TYPE_INT_ARGB);
+
+        // when
+        BufferedImage scaled = ThumbnailStore.scale(original, ALBUM_ART_SIZE);
+
+        // then
+        assertTrue(scaled.getColorModel().hasAlpha());
+        assertEquals(0, scaled.getRGB(0, 0) >>> 24);
+    }
+
+    @Test
+    public void testFillRemovesDeletedFilesFromIndex() throws IOException, UnsupportedTagException, InvalidDataException {
+        // given
+        Path copy = temporaryFolder.newFolder("mp3").toPath().resolve(NEWER_MP3.getFileName());
+        Files.copy(NEWER_MP3, copy);
+        Path storeFolder = temporaryFolder.newFolder("store").toPath();
+        ThumbnailStore thumbnailStore = new ThumbnailStore(storeFolder);
+        Mp3 mp3 = new Mp3(Id3TagReader.read(copy));
+        thumbnailStore.fill(Collections.singletonList(mp3));
+        String hash = thumbnailStore.getHash(mp3).orElseThrow(AssertionError::new);
+        Files.delete(copy);
+
+        // when
+        thumbnailStore.fill(Collections.emptyList());
+
+        // then
+        assertEquals(0, new ThumbnailStore(storeFolder).size());
+        assertFalse(thumbnailStore.getThumbnailPath(hash, ALBUM_ART_SIZE).isPresent());
+        assertFalse(thumbnailStore.getThumbnailPath(hash, BIG_ALBUM_ART_SIZE).isPresent());
+    }
+
+    private static void assertThumbnailSize(ThumbnailStore thumbnailStore, String hash, int size) throws IOException {
+        Optional<Path> path = thumbnailStore.getThumbnailPath(hash, size);
+        assertTrue(path.isPresent());
+        BufferedImage image = ImageIO.read(path.get().toFile());
+        assertTrue(image.getWidth() <= size && image.getHeight() <= size);
+        assertTrue(image.getWidth() == size || image.getHeight() == size);
+    }
+}
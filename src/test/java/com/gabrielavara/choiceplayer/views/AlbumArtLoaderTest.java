@@ -0,0 +1,115 @@
+package com.gabrielavara.choiceplayer.views;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gabrielavara.choiceplayer.dto.Mp3;
+
+import javafx.scene.image.Image;
+
+public class AlbumArtLoaderTest {
+    private static final String BLOCKER = "blocker.mp3";
+
+    private final List<String> decoded = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private AlbumArtLoader albumArtLoader;
+
+    @Before
+    public void setUp() throws InterruptedException {
+        albumArtLoader = new AlbumArtLoader(1, this::decode, callbacks::add);
+        albumArtLoader.load(createMp3(BLOCKER), image -> {
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRequestsForSameFileAreDecodedOnce() throws InterruptedException {
+        // given
+        AtomicInteger loaded = new AtomicInteger();
+        albumArtLoader.load(createMp3("a.mp3"), image -> loaded.incrementAndGet());
+        albumArtLoader.load(createMp3("a.mp3"), image -> loaded.incrementAndGet());
+
+        // when
+        release.countDown();
+        runCallbacks(2);
+
+        // then
+        assertEquals(asList(BLOCKER, "a.mp3"), decoded);
+        assertEquals(2, loaded.get());
+    }
+
+    @Test
+    public void testNewerRequestCancelsOlderOne() throws InterruptedException {
+        // given
+        AtomicInteger loadedOlder = new AtomicInteger();
+        AtomicInteger loadedNewer = new AtomicInteger();
+        AlbumArtLoader.Subscription older = albumArtLoader.load(createMp3("a.mp3"), image -> loadedOlder.incrementAndGet());
+        older.cancel();
+        albumArtLoader.load(createMp3("b.mp3"), image -> loadedNewer.incrementAndGet());
+
+        // when
+        release.countDown();
+        runCallbacks(2);
+
+        // then
+        assertEquals(asList(BLOCKER, "b.mp3"), decoded);
+        assertEquals(0, loadedOlder.get());
+        assertEquals(1, loadedNewer.get());
+    }
+
+    @Test
+    public void testVisibleCellIsDecodedBeforePrefetch() throws InterruptedException {
+        // given
+        albumArtLoader.prefetch(createMp3("next.mp3"));
+        albumArtLoader.load(createMp3("visible.mp3"), image -> {
+        });
+
+        // when
+        release.countDown();
+        runCallbacks(3);
+
+        // then
+        assertEquals(asList(BLOCKER, "visible.mp3", "next.mp3"), decoded);
+    }
+
+    private Image decode(Mp3 mp3) {
+        if (BLOCKER.equals(mp3.getFilename())) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        decoded.add(mp3.getFilename());
+        return null;
+    }
+
+    private void runCallbacks(int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            Runnable callback = callbacks.poll(5, TimeUnit.SECONDS);
+            assertTrue(callback != null);
+            callback.run();
+        }
+    }
+
+    private static Mp3 createMp3(String filename) {
+        Mp3 mp3 = new Mp3();
+        mp3.setFilename(filename);
+        return mp3;
+    }
+}